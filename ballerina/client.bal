@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/crypto;
+import ballerina/io;
 import ballerina/jballerina.java;
 import ballerina/sql;
 
@@ -24,7 +25,9 @@ public isolated client class Client {
 
     # Initializes the OracleDB Client. The client must be kept open throughout the application lifetime.
     #
-    # + host - Hostname of the Oracle database server
+    # + host - Hostname of the Oracle database server, or the addresses of the listeners of a RAC or Data Guard
+    #          deployment. Connections are spread across or failed over between the addresses as configured by the
+    #          `connectDescriptor` option
     # + user - Name of a user of the Oracle database server
     # + password - The password of the Oracle database server for the provided username
     # + database - System identifier or the service name of the database
@@ -32,10 +35,12 @@ public isolated client class Client {
     # + options - Oracle database connection properties
     # + connectionPool - The `sql:ConnectionPool` object to be used within the client. If there is no
     #                    `connectionPool` provided, the global connection pool will be used
+    # + readReplica - The read replica to which `query` and `queryRow` are routed when they are not executed within
+    #                 a transaction. If not provided, all the operations are executed on the database of the client
     # + return - An `sql:Error` if the client creation fails
-    public isolated function init(string host = "localhost", string? user = "sys", string? password = (),
-    string? database = (), int port = 1521, Options? options = (), sql:ConnectionPool? connectionPool = ()) 
-    returns sql:Error? {
+    public isolated function init(string|Address[] host = "localhost", string? user = "sys", string? password = (),
+    string? database = (), int port = 1521, Options? options = (), sql:ConnectionPool? connectionPool = (),
+    ReadReplicaConfig? readReplica = ()) returns sql:Error? {
         ClientConfiguration clientConfig = {
             host: host,
             port: port,
@@ -45,7 +50,21 @@ public isolated client class Client {
             options: options,
             connectionPool: connectionPool
         };
-        return createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        check createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        if readReplica is () {
+            return;
+        }
+        Client|sql:Error replicaClient = new (readReplica.host, readReplica.user ?: user,
+            readReplica.password ?: password, readReplica.database ?: database, readReplica.port,
+            readReplica.options, readReplica.connectionPool);
+        if replicaClient is sql:Error {
+            sql:Error? closeResult = self.close();
+            if closeResult is sql:Error {
+                return closeResult;
+            }
+            return replicaClient;
+        }
+        setReadReplica(self, replicaClient);
     }
 
     # Executes the query, which may return multiple results.
@@ -60,6 +79,62 @@ public isolated client class Client {
         name: "nativeQuery"
     } external;
 
+    # Executes the query with the given per-call options, which may return multiple results.
+    # When processing the stream, make sure to consume all fetched data or close the stream.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Album WHERE name=${albumName}` ``
+    # + options - Options to be applied to this query such as the number of rows fetched per round trip
+    # + rowType - The `typedesc` of the record to which the result needs to be returned
+    # + return - Stream of records in the `rowType` type
+    remote isolated function queryWithOptions(sql:ParameterizedQuery sqlQuery, QueryOptions options,
+    typedesc<record {}> rowType = <>) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor",
+        name: "nativeQueryWithOptions"
+    } external;
+
+    # Executes the query and writes the results to a local file, which is created or overwritten. The rows are
+    # written as CSV or newline-delimited JSON directly from the database driver without creating records, which
+    # makes this suitable for exporting large results.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Album WHERE name=${albumName}` ``
+    # + path - The path of the local file
+    # + options - The format of the file and the number of rows fetched per round trip
+    # + return - The number of rows written or an `sql:Error`
+    remote isolated function exportQuery(sql:ParameterizedQuery sqlQuery, string path, ExportOptions options = {})
+    returns int|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor"
+    } external;
+
+    # Executes the query and writes the results to the given byte channel, such as a file, socket or compressed
+    # channel, as CSV or newline-delimited JSON. The rows are written directly from the database driver without
+    # creating records, one round trip's worth of rows at a time, so that only those rows are held in memory. The
+    # channel is not closed once the results are written.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT * from Album WHERE name=${albumName}` ``
+    # + channel - The channel to which the results are written
+    # + options - The format of the results and the number of rows fetched per round trip
+    # + return - The number of rows written or an `sql:Error`
+    remote isolated function exportQueryToChannel(sql:ParameterizedQuery sqlQuery, io:WritableByteChannel channel,
+    ExportOptions options = {}) returns int|sql:Error {
+        ExportChunkIterator chunks = openExport(self, sqlQuery, options);
+        while true {
+            byte[]|int|sql:Error chunk = chunks.next();
+            if chunk !is byte[] {
+                return chunk;
+            }
+            int offset = 0;
+            while offset < chunk.length() {
+                int|io:Error written = channel.write(chunk, offset);
+                if written is io:Error {
+                    check chunks.close();
+                    return error sql:ApplicationError("Error while writing the results of the query to the " +
+                        "channel: " + written.message(), written);
+                }
+                offset += written;
+            }
+        }
+    }
+
     # Executes the query, which is expected to return at most one row of the result.
     # If the query does not return any results, an `sql:NoRowsError` is returned.
     #
@@ -73,6 +148,51 @@ public isolated client class Client {
         name: "nativeQueryRow"
     } external;
 
+    # Executes the query and returns the BLOB in the first column of the first row as a stream of byte chunks.
+    # The chunks are read from the database on demand and sized to the chunk size of the LOB, so that the value is
+    # never fully loaded into memory. Make sure to consume the stream fully or close it.
+    # If the query does not return any results, the stream returns an `sql:NoRowsError`.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT content FROM Document WHERE id=${documentId}` ``
+    # + return - Stream of the chunks of the BLOB
+    remote isolated function queryBlob(sql:ParameterizedQuery sqlQuery) returns stream<byte[], sql:Error?> =
+    @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+    } external;
+
+    # Executes the query and returns the CLOB in the first column of the first row as a stream of string chunks.
+    # The chunks are read from the database on demand and sized to the chunk size of the LOB, so that the value is
+    # never fully loaded into memory. Make sure to consume the stream fully or close it.
+    # If the query does not return any results, the stream returns an `sql:NoRowsError`.
+    #
+    # + sqlQuery - The SQL query such as `` `SELECT body FROM Document WHERE id=${documentId}` ``
+    # + return - Stream of the chunks of the CLOB
+    remote isolated function queryClob(sql:ParameterizedQuery sqlQuery) returns stream<string, sql:Error?> =
+    @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+    } external;
+
+    # Reads the content of the given BFILE as a stream of byte chunks. The chunks are read from the database only when
+    # they are consumed. Make sure to consume the stream fully or close it.
+    #
+    # + bfile - The locator of the BFILE, which can be retrieved from a BFILE column as an `oracledb:BFile`
+    # + chunkSize - Size of the chunks in bytes
+    # + return - Stream of the chunks of the file
+    remote isolated function readBFile(BFile bfile, int chunkSize = 65536) returns stream<byte[], sql:Error?> =
+    @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+    } external;
+
+    # Copies the content of the given BFILE to a local file, which is created or overwritten. The content is
+    # transferred from the database to the file without being loaded into Ballerina values.
+    #
+    # + bfile - The locator of the BFILE, which can be retrieved from a BFILE column as an `oracledb:BFile`
+    # + path - The path of the local file
+    # + return - The number of bytes written or an `sql:Error`
+    remote isolated function readBFileToFile(BFile bfile, string path) returns int|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+    } external;
+
     # Executes the SQL query. Only the metadata of the execution is returned (not the results from the query).
     #
     # + sqlQuery - The SQL query such as `` `DELETE FROM Album WHERE artist=${artistName}` ``
@@ -83,6 +203,34 @@ public isolated client class Client {
         name: "nativeExecute"
     } external;
 
+    # Executes the INSERT, UPDATE or DELETE statement and returns the values of the given columns of the affected rows,
+    # such as a generated primary key or a column computed by a default or a trigger. The values are returned in the
+    # same round trip as the execution.
+    #
+    # + sqlQuery - The SQL query such as `` `INSERT INTO Album (name) VALUES (${albumName})` ``
+    # + columns - The names of the columns to be returned
+    # + rowType - The `typedesc` of the record to which the returned columns are mapped
+    # + return - The returned columns of the affected rows or an `sql:Error`
+    remote isolated function executeReturning(sql:ParameterizedQuery sqlQuery, string[] columns,
+    typedesc<record {}> rowType = <>) returns rowType[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
+        name: "nativeExecuteReturning"
+    } external;
+
+    # Executes the INSERT, UPDATE or DELETE statement with multiple sets of parameters in a batch and returns the
+    # values of the given columns of the affected rows in the order of the queries. The batch is executed in a single
+    # round trip.
+    #
+    # + sqlQueries - The SQL query with multiple sets of parameters
+    # + columns - The names of the columns to be returned
+    # + rowType - The `typedesc` of the record to which the returned columns are mapped
+    # + return - The returned columns of the affected rows or an `sql:Error`
+    remote isolated function batchExecuteReturning(sql:ParameterizedQuery[] sqlQueries, string[] columns,
+    typedesc<record {}> rowType = <>) returns rowType[]|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
+        name: "nativeBatchExecuteReturning"
+    } external;
+
     # Executes the SQL query with multiple sets of parameters in a batch. Only the metadata of the execution is returned (not results from the query).
     # If one of the commands in the batch fails, the `sql:BatchExecuteError` will be returned immediately.
     #
@@ -96,6 +244,90 @@ public isolated client class Client {
         return nativeBatchExecute(self, sqlQueries);
     }
 
+    # Executes the SQL query with multiple sets of parameters in batches of `chunkSize` queries. Unlike
+    # `batchExecute`, a failed query does not stop the execution of the batch. The remaining queries are executed
+    # and the failed queries are returned along with the reason for the failure, so that only they can be retried.
+    #
+    # + sqlQueries - The SQL query with multiple sets of parameters
+    # + chunkSize - Maximum number of queries sent to the database in a single round trip
+    # + return - The number of affected rows and the failed queries as an `oracledb:BatchExecutionResult` or an
+    #            `sql:Error` if the batch cannot be executed
+    remote isolated function batchExecuteInChunks(sql:ParameterizedQuery[] sqlQueries, int chunkSize = 1000)
+    returns BatchExecutionResult|sql:Error {
+        if sqlQueries.length() == 0 {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be an empty array");
+        }
+        if chunkSize <= 0 {
+            return error sql:ApplicationError("Parameter 'chunkSize' should be greater than zero");
+        }
+        return nativeBatchExecuteInChunks(self, sqlQueries, chunkSize);
+    }
+
+    # Loads the records of the given stream into a table using Oracle array DML. The columns are mapped to the fields
+    # of the same name once, and the records are bound to the database in batches of `batchSize` rows, so that the
+    # memory used does not grow with the number of records of the stream. Outside transactions, the loaded rows are
+    # committed once all the records are loaded, or as configured by the `commitInterval` and `directPath` options.
+    # If the load fails, the rows which are not committed are rolled back.
+    #
+    # + tableName - Name of the table, which may be qualified with the name of the schema
+    # + rows - Stream of records to be loaded
+    # + options - Configurations of the bulk load
+    # + return - Number of loaded rows along with the load rate or an `sql:Error`
+    remote isolated function bulkLoad(string tableName, stream<record {}, error?> rows, BulkLoadOptions options = {})
+    returns BulkLoadResult|sql:Error {
+        if options.batchSize <= 0 {
+            return error sql:ApplicationError("Parameter 'batchSize' should be greater than zero");
+        }
+        if options.commitInterval < 0 {
+            return error sql:ApplicationError("Parameter 'commitInterval' cannot be negative");
+        }
+        record {|record {} value;|}|error? row = rows.next();
+        if row is error {
+            return error sql:ApplicationError("Error while reading the records to be loaded: " + row.message(), row);
+        }
+        if row is () {
+            return {rowCount: 0, elapsedTime: 0, rowsPerSecond: 0};
+        }
+        BulkLoader|sql:Error loader = createBulkLoader(self, tableName, row.value, options);
+        if loader is sql:Error {
+            return closeBulkLoadStream(rows, loader);
+        }
+        int pendingRows = 0;
+        while row is record {|record {} value;|} {
+            sql:Error? result = addBulkLoadRow(loader, row.value);
+            pendingRows += 1;
+            if result is () && pendingRows == options.batchSize {
+                result = flushBulkLoad(loader);
+                pendingRows = 0;
+            }
+            if result is sql:Error {
+                return closeBulkLoadStream(rows, result);
+            }
+            row = rows.next();
+        }
+        if row is error {
+            abortBulkLoad(loader);
+            return error sql:ApplicationError("Error while reading the records to be loaded: " + row.message(), row);
+        }
+        return finishBulkLoad(loader);
+    }
+
+    # Executes the SQL query once for each row of the given column values using Oracle array DML. Each insertion of
+    # the query is an array holding the values of a single column (e.g., `int[]`, `decimal[]`, `string?[]`) and all
+    # the arrays should have the same length. A `float[][]` column is bound as a column of `VECTOR` values.
+    # The rows are sent to the database in chunks of `chunkSize` rows.
+    #
+    # + sqlQuery - The SQL query such as `` `INSERT INTO Employee (id, name) VALUES (${ids}, ${names})` ``
+    # + chunkSize - Maximum number of rows sent to the database in a single round trip
+    # + return - Total number of rows affected by the query or an `sql:Error`
+    remote isolated function batchInsert(sql:ParameterizedQuery sqlQuery, int chunkSize = 1000)
+    returns int|sql:Error {
+        if chunkSize <= 0 {
+            return error sql:ApplicationError("Parameter 'chunkSize' should be greater than zero");
+        }
+        return nativeBatchInsert(self, sqlQuery, chunkSize);
+    }
+
     # Executes an SQL query, which calls a stored procedure or function. This may or may not
     # return results. Once the results are processed, the `close` method on `sql:ProcedureCallResult` must be called.
     #
@@ -131,6 +363,24 @@ public isolated client class Client {
         name: "nativeCall"
     } external;
 
+    # Removes results from the client-side result cache used by `queryRow`. The cache is not updated when the
+    # underlying data is modified, hence this should be called once the cached data is changed.
+    #
+    # + sqlQuery - The SQL query of which the cached results need to be removed. The results cached for the same
+    #              parameter values are removed. If not provided, all the cached results are removed
+    public isolated function invalidateResultCache(sql:ParameterizedQuery? sqlQuery = ()) = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor"
+    } external;
+
+    # Returns the state of the connection pool of the client, which tells whether requests are waiting for
+    # connections of the pool. The state is refreshed at most once a second unless the `registerPoolMBeans` option
+    # is set.
+    #
+    # + return - Statistics of the connection pool or an `sql:Error`
+    public isolated function getPoolStats() returns PoolStats|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
+    } external;
+
     # Closes the JDBC client and shuts down the connection pool. The client must be closed only at the end of the
     # application lifetime (or closed for graceful stops in a service).
     #
@@ -159,6 +409,27 @@ public type SecureSocket record {|
 # + socketTimeout - Socket timeout (in seconds) to be used during the read/write operations with the Oracle database server
 #                   (0 means no socket timeout)
 # + useXADatasource - If true, uses XADatasource for transactions
+# + defaultRowPrefetch - Number of rows fetched from the database in each round trip while reading a result.
+#                        If not set, the driver default of 10 rows is used
+# + defaultLobPrefetchSize - Number of bytes (for BLOBs) or characters (for CLOBs) of LOB data prefetched
+#                            along with the LOB locator
+# + statementCacheSize - Number of statements cached on each physical connection by the implicit statement cache
+#                        of the driver. If not set, statements are not cached
+# + resultCache - Configurations of the client-side result cache used by `queryRow`. If not set, results are not cached
+# + connectDescriptor - Configurations of the connect descriptor, which control how connections are spread across
+#                       and failed over between the addresses of the `host`
+# + warmUp - Configurations of the warm-up of the connection pool at client creation. If not set, connections are
+#            opened on demand
+# + useAsyncExecution - If true, `query`, `execute` and `call` are executed through the reactive extensions of the
+#                       driver, which do not block a thread while waiting for the database, and the rows of `query`
+#                       are fed to the stream with back-pressure. Queries with columns that are not mapped to `int`,
+#                       `float`, `decimal`, `string`, `boolean` or `byte[]` values and calls with OUT parameters or
+#                       row types are executed through the regular processor
+# + returnGeneratedKeys - If false, `execute` does not retrieve the ROWID of an inserted row and the `lastInsertId`
+#                         of the result is always nil, which saves the work of returning it for every insertion
+# + registerPoolMBeans - If true, the connection pool is registered with the platform MBean server, and `getPoolStats`
+#                        reads the state of the pool live from its MBean instead of from the statistics of the pool,
+#                        which are refreshed at most once a second
 public type Options record {|
     SecureSocket ssl?;
     decimal loginTimeout = 0;
@@ -166,11 +437,191 @@ public type Options record {|
     decimal connectTimeout = 30;
     decimal socketTimeout?;
     boolean useXADatasource = false;
+    int defaultRowPrefetch?;
+    int defaultLobPrefetchSize?;
+    int statementCacheSize?;
+    ResultCacheConfig resultCache?;
+    ConnectDescriptorOptions connectDescriptor?;
+    WarmUpConfig warmUp?;
+    boolean useAsyncExecution = false;
+    boolean returnGeneratedKeys = true;
+    boolean registerPoolMBeans = false;
+|};
+
+# Provides a set of configurations of the warm-up of the connection pool, which opens the connections of the pool
+# in parallel at client creation so that the first requests do not pay for establishing connections.
+#
+# + connections - Number of connections opened by the warm-up. If not provided, the `minIdleConnections` of the
+#                 connection pool is used
+# + statements - SQL statements parsed on each of the connections, which are placed in the implicit statement cache
+#                if the `statementCacheSize` option is set
+public type WarmUpConfig record {|
+    int connections?;
+    string[] statements = [];
+|};
+
+# Represents the live state of the connection pool of a client.
+#
+# + activeConnections - Number of connections in use
+# + idleConnections - Number of connections idling in the pool
+# + totalConnections - Total number of connections in the pool
+# + threadsAwaitingConnection - Number of requests waiting for a connection of the pool
+# + maxOpenConnections - Maximum number of connections of the pool
+# + minIdleConnections - Minimum number of idle connections kept in the pool
+public type PoolStats record {|
+    int activeConnections;
+    int idleConnections;
+    int totalConnections;
+    int threadsAwaitingConnection;
+    int maxOpenConnections;
+    int minIdleConnections;
+|};
+
+# Represents the result of the `batchExecuteInChunks` remote method.
+#
+# + affectedRowCount - Total number of rows affected by the queries that were executed successfully, where a query
+#                      for which the database does not report a count is counted as a single row
+# + failures - Queries of the batch that failed, in the order of the batch
+public type BatchExecutionResult record {|
+    int affectedRowCount;
+    BatchFailure[] failures;
+|};
+
+# Provides a set of configurations for the `bulkLoad` remote method.
+#
+# + columns - Columns into which the records are loaded, each from the field of the same name, compared without case.
+#             If not provided, the fields of the record type of the first record are loaded into the columns of the
+#             same name
+# + batchSize - Number of rows sent to the database in a single round trip
+# + directPath - If true, the rows are inserted through direct-path insert using the `APPEND_VALUES` hint. As
+#                a table modified through direct-path insert cannot be modified again before a commit, the rows are
+#                committed after each batch. This cannot be used within a transaction
+# + commitInterval - Number of rows after which the loaded rows are committed. If zero, the rows are committed once
+#                    all the records are loaded. This cannot be used within a transaction
+public type BulkLoadOptions record {|
+    string[] columns?;
+    int batchSize = 10000;
+    boolean directPath = false;
+    int commitInterval = 0;
+|};
+
+# Represents the result of the `bulkLoad` remote method.
+#
+# + rowCount - Number of rows loaded into the table
+# + elapsedTime - Time (in seconds) taken to load the rows
+# + rowsPerSecond - Average number of rows loaded per second
+public type BulkLoadResult record {|
+    int rowCount;
+    decimal elapsedTime;
+    float rowsPerSecond;
+|};
+
+# Represents a query of a batch that failed.
+#
+# + index - Index of the query in the batch
+# + errorCode - Vendor-specific error code returned by the database (e.g., `1` for `ORA-00001`)
+# + sqlState - SQL state of the failure
+# + message - Error message returned by the database
+public type BatchFailure record {|
+    int index;
+    int errorCode;
+    string? sqlState;
+    string message;
+|};
+
+# Provides a set of configurations of a read replica, such as an Active Data Guard standby, to which the
+# read-only queries of the client are routed.
+#
+# + host - Hostname of the read replica, or the addresses of its listeners
+# + port - Port number of the read replica
+# + user - Name of a user of the read replica. If not provided, the `user` of the client is used
+# + password - The password of the read replica for the provided username. If not provided, the `password` of the
+#              client is used
+# + database - System identifier or the service name of the read replica. If not provided, the `database` of the
+#              client is used
+# + options - Oracle database connection properties of the read replica
+# + connectionPool - The `sql:ConnectionPool` to be used for the read replica. If there is no `connectionPool`
+#                    provided, the global connection pool will be used
+public type ReadReplicaConfig record {|
+    string|Address[] host;
+    int port = 1521;
+    string user?;
+    string password?;
+    string database?;
+    Options options?;
+    sql:ConnectionPool connectionPool?;
+|};
+
+# Represents the address of a listener of the Oracle database server.
+#
+# + host - Hostname of the listener
+# + port - Port number of the listener. If not provided, the `port` of the client is used
+public type Address record {|
+    string host;
+    int port?;
+|};
+
+# Provides a set of configurations of the connect descriptor used to connect to the addresses of the `host`.
+#
+# + loadBalance - If true, new connections are spread randomly across the addresses. Otherwise, the addresses are
+#                 tried in the given order
+# + failover - If true, the next address is tried when a connection to an address fails
+# + connectTimeout - Timeout (in seconds) to establish a connection to an address, including the authentication
+# + transportConnectTimeout - Timeout (in seconds) to establish the TCP connection to an address
+# + retryCount - Number of times the list of addresses is traversed before a connection attempt fails
+# + retryDelay - Delay (in seconds) between the retries of the list of addresses
+public type ConnectDescriptorOptions record {|
+    boolean loadBalance = false;
+    boolean failover = true;
+    decimal connectTimeout?;
+    decimal transportConnectTimeout?;
+    int retryCount?;
+    int retryDelay?;
+|};
+
+# Provides a set of configurations for the client-side result cache used by `queryRow`. Results are cached against
+# the SQL query, its parameter values and the return type, and are not cached within transactions.
+#
+# + capacity - Maximum number of results kept in the cache. Once the cache is full, the least recently used
+#              result is evicted
+# + timeToLive - Time (in seconds) for which a cached result is served before it is fetched again from the database
+public type ResultCacheConfig record {|
+    int capacity = 1000;
+    decimal timeToLive = 60;
+|};
+
+# Provides a set of configurations to be applied to a single query.
+#
+# + fetchSize - Number of rows fetched from the database in each round trip for this query. This overrides the
+#               `defaultRowPrefetch` of the client and is ignored if it is not greater than zero
+public type QueryOptions record {|
+    int fetchSize?;
+|};
+
+# Formats to which the results of a query can be exported.
+#
+# + CSV - Comma-separated values as specified by RFC 4180, with the column names as the optional first line
+# + NDJSON - One JSON object per line, with the column names as the keys
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
+
+# Provides a set of configurations for the `exportQuery` and `exportQueryToChannel` remote methods.
+#
+# + format - The format of the exported results
+# + fetchSize - Number of rows fetched from the database in each round trip. A non-positive value falls back to the
+#               `defaultRowPrefetch` of the client
+# + includeHeader - If `true`, the column names are written as the first line of a CSV file
+public type ExportOptions record {|
+    ExportFormat format = CSV;
+    int fetchSize = 10000;
+    boolean includeHeader = true;
 |};
 
 # Client configuration record for connection initialization.
 #
-# + host - Hostname of the Oracle database server
+# + host - Hostname of the Oracle database server or the addresses of its listeners
 # + port - Port number of the Oracle database server
 # + user - Name of a user of the Oracle database server
 # + database - System identifier or the service name of the database
@@ -179,7 +630,7 @@ public type Options record {|
 # + connectionPool - The `sql:ConnectionPool` record to be used within the database client. If there is no
 #                    connectionPool provided, the global connection pool will be used
 type ClientConfiguration record {|
-    string host;
+    string|Address[] host;
     int port;
     string? user;
     string? password;
@@ -193,7 +644,56 @@ returns sql:Error? = @java:Method {
     'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
 } external;
 
+isolated function setReadReplica(Client 'client, Client readReplica) = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
+} external;
+
+isolated function openExport(Client sqlClient, sql:ParameterizedQuery sqlQuery, ExportOptions options)
+returns ExportChunkIterator = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor"
+} external;
+
 isolated function nativeBatchExecute(Client sqlClient, sql:ParameterizedQuery[] sqlQueries) 
 returns sql:ExecutionResult[]|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor"
 } external;
+
+isolated function nativeBatchExecuteInChunks(Client sqlClient, sql:ParameterizedQuery[] sqlQueries, int chunkSize)
+returns BatchExecutionResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor"
+} external;
+
+isolated function closeBulkLoadStream(stream<record {}, error?> rows, sql:Error loadError) returns sql:Error {
+    error? closeResult = rows.close();
+    if closeResult is error {
+        return error sql:ApplicationError(string `${loadError.message()} Closing the stream of the records to be ` +
+            string `loaded also failed: ${closeResult.message()}`, loadError);
+    }
+    return loadError;
+}
+
+isolated function createBulkLoader(Client sqlClient, string tableName, record {} firstRow, BulkLoadOptions options)
+returns BulkLoader|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.BulkLoadProcessor"
+} external;
+
+isolated function addBulkLoadRow(BulkLoader loader, record {} row) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.BulkLoadProcessor"
+} external;
+
+isolated function flushBulkLoad(BulkLoader loader) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.BulkLoadProcessor"
+} external;
+
+isolated function finishBulkLoad(BulkLoader loader) returns BulkLoadResult|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.BulkLoadProcessor"
+} external;
+
+isolated function abortBulkLoad(BulkLoader loader) = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.BulkLoadProcessor"
+} external;
+
+isolated function nativeBatchInsert(Client sqlClient, sql:ParameterizedQuery sqlQuery, int chunkSize)
+returns int|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor"
+} external;
@@ -323,3 +323,91 @@ function testWithOptionsWithSSLWithKey() returns error? {
     );
     test:assertEquals(oracledbClient.close(), (), "Initializing with ssl params fail");
 }
+
+// with the implicit statement cache enabled
+@test:Config {
+    groups: ["connection"]
+}
+isolated function testWithStatementCacheOption() returns error? {
+    Options options = {
+        statementCacheSize: 20
+    };
+    Client oracledbClient = check new (
+        host = HOST,
+        user = USER,
+        password = PASSWORD,
+        port = PORT,
+        database = DATABASE,
+        options = options
+    );
+    foreach int i in 1 ... 5 {
+        int value = check oracledbClient->queryRow(`SELECT ${i} FROM DUAL`);
+        test:assertEquals(value, i, "Querying with the statement cache enabled fail");
+    }
+    test:assertEquals(oracledbClient.close(), (), "Initializing with statement cache option fail");
+}
+
+// with a list of addresses, where the first address is not reachable
+@test:Config {
+    groups: ["connection"]
+}
+isolated function testWithFailoverAddresses() returns error? {
+    Options options = {
+        connectDescriptor: {
+            failover: true,
+            transportConnectTimeout: 2,
+            retryCount: 1,
+            retryDelay: 1
+        }
+    };
+    Client oracledbClient = check new (
+        host = [{host: HOST, port: 1}, {host: HOST}],
+        user = USER,
+        password = PASSWORD,
+        port = PORT,
+        database = DATABASE,
+        options = options
+    );
+    int value = check oracledbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(value, 1, "Querying with failover addresses fail");
+    test:assertEquals(oracledbClient.close(), (), "Initializing with failover addresses fail");
+}
+
+// with a list of load balanced addresses
+@test:Config {
+    groups: ["connection"]
+}
+isolated function testWithLoadBalancedAddresses() returns error? {
+    Options options = {
+        connectDescriptor: {
+            loadBalance: true,
+            connectTimeout: 10
+        }
+    };
+    Client oracledbClient = check new (
+        host = [{host: HOST, port: PORT}, {host: HOST, port: PORT}],
+        user = USER,
+        password = PASSWORD,
+        database = DATABASE,
+        options = options,
+        connectionPool = {maxOpenConnections: 4}
+    );
+    foreach int i in 1 ... 4 {
+        int value = check oracledbClient->queryRow(`SELECT ${i} FROM DUAL`);
+        test:assertEquals(value, i, "Querying with load balanced addresses fail");
+    }
+    test:assertEquals(oracledbClient.close(), (), "Initializing with load balanced addresses fail");
+}
+
+// with an empty list of addresses
+@test:Config {
+    groups: ["connection"]
+}
+isolated function testWithEmptyAddresses() {
+    Client|sql:Error oracledbClient = new (host = [], user = USER, password = PASSWORD, database = DATABASE);
+    if oracledbClient is sql:ApplicationError {
+        test:assertTrue(oracledbClient.message().includes("At least one address should be provided"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+}
@@ -212,3 +212,78 @@ isolated function testDropTable() returns sql:Error? {
     test:assertExactEquals(result.affectedRowCount, 0, "Affected row count is different.");
     test:assertExactEquals(result.lastInsertId, (), "Last Insert Id should be null.");
 }
+
+type ReturnedColumns record {|
+    int ID;
+    string CREATED_BY;
+|};
+
+@test:Config {
+    groups: ["execute", "execute-basic"]
+}
+function testExecuteReturning() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestReturningTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestReturningTable(
+        id NUMBER GENERATED ALWAYS AS IDENTITY,
+        name VARCHAR2(255),
+        created_by VARCHAR2(128) DEFAULT USER,
+        created_at TIMESTAMP DEFAULT SYSTIMESTAMP,
+        PRIMARY KEY(id)
+        )`);
+    ReturnedColumns[] inserted = check oracledbClient->executeReturning(
+        `INSERT INTO TestReturningTable(name) VALUES ('first')`, ["ID", "CREATED_BY"]);
+    test:assertEquals(inserted.length(), 1);
+    test:assertEquals(inserted[0].CREATED_BY, USER.toUpperAscii());
+
+    string name = "second";
+    (readonly & ReturnedColumns)[] readonlyInserted = check oracledbClient->executeReturning(
+        `INSERT INTO TestReturningTable(name) VALUES (${name})`, ["ID", "CREATED_BY"]);
+    test:assertEquals(readonlyInserted.length(), 1);
+    test:assertTrue(readonlyInserted[0].ID > inserted[0].ID, "Returned identity value is not greater");
+
+    record {}[] timestamped = check oracledbClient->executeReturning(
+        `INSERT INTO TestReturningTable(name) VALUES ('third')`, ["ID", "CREATED_AT"]);
+    test:assertEquals(timestamped.length(), 1);
+    test:assertTrue(timestamped[0]["CREATED_AT"] !is (), "Returned TIMESTAMP column should not be nil");
+
+    string[] names = ["fourth", "fifth", "sixth"];
+    sql:ParameterizedQuery[] insertQueries = from string batchName in names
+        select `INSERT INTO TestReturningTable(name) VALUES (${batchName})`;
+    ReturnedColumns[] batchInserted = check oracledbClient->batchExecuteReturning(insertQueries,
+        ["ID", "CREATED_BY"]);
+    test:assertEquals(batchInserted.length(), 3);
+    test:assertTrue(batchInserted[0].ID > readonlyInserted[0].ID && batchInserted[2].ID > batchInserted[1].ID,
+        "Returned identity values are not in the order of the batch");
+
+    ReturnedColumns[] updated = check oracledbClient->executeReturning(
+        `UPDATE TestReturningTable SET name = 'updated' WHERE id = ${inserted[0].ID}`, ["ID", "CREATED_BY"]);
+    test:assertEquals(updated.length(), 1);
+    test:assertEquals(updated[0].ID, inserted[0].ID);
+
+    ReturnedColumns[] deleted = check oracledbClient->executeReturning(
+        `DELETE FROM TestReturningTable WHERE id = ${inserted[0].ID}`, ["ID", "CREATED_BY"]);
+    test:assertEquals(deleted.length(), 1);
+    test:assertEquals(deleted[0].ID, inserted[0].ID);
+
+    ReturnedColumns[]|sql:Error selected = oracledbClient->executeReturning(
+        `SELECT id FROM TestReturningTable`, ["ID", "CREATED_BY"]);
+    test:assertTrue(selected is sql:ApplicationError, "Returning columns of a SELECT should fail");
+
+    ReturnedColumns[]|sql:Error emptyBatch = oracledbClient->batchExecuteReturning([], ["ID"]);
+    test:assertTrue(emptyBatch is sql:ApplicationError, "Returning columns of an empty batch should fail");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["execute", "execute-basic"],
+    dependsOn: [testExecuteReturning]
+}
+function testExecuteWithoutGeneratedKeys() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {returnGeneratedKeys: false});
+    sql:ExecutionResult result = check oracledbClient->execute(
+        `INSERT INTO TestReturningTable(name) VALUES ('without keys')`);
+    check oracledbClient.close();
+    test:assertExactEquals(result.affectedRowCount, 1, "Affected row count is different.");
+    test:assertExactEquals(result.lastInsertId, (), "Last Insert Id should be nil when generated keys are disabled.");
+}
@@ -385,6 +385,99 @@ function testStopClientUsingGlobalPool() returns sql:Error? {
     validateApplicationError(retVal2);
 }
 
+@test:Config {
+    groups: ["pool", "warm-up"]
+}
+function testConnectionPoolWarmUp() returns error? {
+    Options warmUpOptions = {
+        statementCacheSize: 10,
+        warmUp: {
+            statements: [
+                "select count(*) as val from PoolCustomers where registrationID = ?",
+                "SELECT 1 FROM DUAL"
+            ]
+        }
+    };
+    Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, warmUpOptions,
+        {maxOpenConnections: 5, minIdleConnections: 3});
+    int registrationId = 1;
+    stream<Result, error?> result = oracleDbClient->query(
+        `select count(*) as val from PoolCustomers where registrationID = ${registrationId}`);
+    test:assertEquals(getReturnValue(result), 1);
+    check oracleDbClient.close();
+}
+
+@test:Config {
+    groups: ["pool", "warm-up"]
+}
+function testConnectionPoolWarmUpWithMoreConnectionsThanPool() returns error? {
+    Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {warmUp: {connections: 10}},
+        {maxOpenConnections: 2, minIdleConnections: 1});
+    int value = check oracleDbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(value, 1);
+    check oracleDbClient.close();
+}
+
+@test:Config {
+    groups: ["pool", "warm-up"]
+}
+function testConnectionPoolWarmUpWithInvalidStatement() {
+    Client|sql:Error oracleDbClient = new (HOST, USER, PASSWORD, DATABASE, PORT,
+        {warmUp: {connections: 2, statements: ["SELECT * FROM NonExistentWarmUpTable"]}},
+        {maxOpenConnections: 2});
+    if oracleDbClient is sql:DatabaseError {
+        test:assertTrue(oracleDbClient.message().includes("Error while warming up the connection pool"),
+            oracleDbClient.message());
+    } else {
+        test:assertFail("DatabaseError Error expected");
+    }
+}
+
+@test:Config {
+    groups: ["pool", "pool-stats"]
+}
+function testConnectionPoolStats() returns error? {
+    // The live state of the pool is read from its MBean, since the statistics of the pool are refreshed once a second
+    Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {...options, registerPoolMBeans: true},
+        {maxOpenConnections: 3, minIdleConnections: 1});
+    stream<Result, error?> result = oracleDbClient->query(
+        `select count(*) as val from PoolCustomers where registrationID = 1`);
+    PoolStats stats = check oracleDbClient.getPoolStats();
+    test:assertEquals(stats.maxOpenConnections, 3);
+    test:assertEquals(stats.minIdleConnections, 1);
+    test:assertEquals(stats.activeConnections, 1, "The connection of the open stream should be active");
+    test:assertTrue(stats.totalConnections <= 3);
+    test:assertEquals(stats.threadsAwaitingConnection, 0);
+
+    test:assertEquals(getReturnValue(result), 1);
+    stats = check oracleDbClient.getPoolStats();
+    test:assertEquals(stats.activeConnections, 0);
+    test:assertEquals(stats.idleConnections, stats.totalConnections);
+    check oracleDbClient.close();
+
+    PoolStats|sql:Error closedStats = oracleDbClient.getPoolStats();
+    test:assertTrue(closedStats is sql:ApplicationError, "ApplicationError Error expected");
+}
+
+@test:Config {
+    groups: ["pool", "pool-stats"]
+}
+function testConnectionPoolStatsOfSeparatePools() returns error? {
+    sql:ConnectionPool sharedPool = {maxOpenConnections: 4};
+    Client firstClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, options, sharedPool);
+    Client sharingClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, options, sharedPool);
+    Client separateClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, options, {maxOpenConnections: 6});
+    PoolStats firstStats = check firstClient.getPoolStats();
+    PoolStats sharingStats = check sharingClient.getPoolStats();
+    PoolStats separateStats = check separateClient.getPoolStats();
+    test:assertEquals(firstStats.maxOpenConnections, 4);
+    test:assertEquals(sharingStats.maxOpenConnections, 4);
+    test:assertEquals(separateStats.maxOpenConnections, 6);
+    check firstClient.close();
+    check sharingClient.close();
+    check separateClient.close();
+}
+
 isolated function getReturnValue(stream<Result, error?> queryResult) returns int|error {
     record {|record {} value;|}? data = check queryResult.next();
     check queryResult.close();
@@ -87,6 +87,166 @@ isolated function batchInsertIntoDataTableFailure() {
     }
 }
 
+@test:Config {
+    groups: ["batch-execute", "batch-insert"]
+}
+isolated function batchInsertColumnArrays() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestBatchInsertTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestBatchInsertTable(
+        id NUMBER PRIMARY KEY, amount NUMBER(10, 2), name VARCHAR2(50), active NUMBER(1))`);
+
+    int[] ids = [];
+    decimal[] amounts = [];
+    string?[] names = [];
+    boolean[] active = [];
+    foreach int i in 1 ... 2500 {
+        ids.push(i);
+        amounts.push(<decimal>i / 4);
+        names.push(i % 10 == 0 ? () : string `name-${i}`);
+        active.push(i % 2 == 0);
+    }
+    int affectedRowCount = check oracledbClient->batchInsert(`INSERT INTO TestBatchInsertTable (id, amount, name, active)
+        VALUES (${ids}, ${amounts}, ${names}, ${active})`, chunkSize = 1000);
+    test:assertEquals(affectedRowCount, 2500);
+
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM TestBatchInsertTable WHERE name IS NULL`);
+    test:assertEquals(count, 250);
+    decimal amount = check oracledbClient->queryRow(`SELECT amount FROM TestBatchInsertTable WHERE id = 2499`);
+    test:assertEquals(amount, 624.75d);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-execute", "batch-insert"],
+    dependsOn: [batchInsertColumnArrays]
+}
+isolated function batchInsertColumnArraysFailure() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int[] ids = [2501, 2502, 1];
+    string[] names = ["a", "b", "c"];
+    int|sql:Error result = oracledbClient->batchInsert(
+        `INSERT INTO TestBatchInsertTable (id, name) VALUES (${ids}, ${names})`, chunkSize = 2);
+    test:assertTrue(result is sql:DatabaseError, "Database Error expected.");
+
+    string[] shortNames = ["a"];
+    result = oracledbClient->batchInsert(`INSERT INTO TestBatchInsertTable (id, name) VALUES (${ids}, ${shortNames})`);
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().includes("should have the same length"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+
+    result = oracledbClient->batchInsert(`INSERT INTO TestBatchInsertTable (id) VALUES (${ids})`, chunkSize = 0);
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().includes("Parameter 'chunkSize' should be greater than zero"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-execute", "batch-insert"],
+    dependsOn: [batchInsertColumnArraysFailure]
+}
+isolated function batchExecuteInChunksWithFailures() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int[] ids = [3001, 3002, 1, 3004, 3005, 2, 3007];
+    sql:ParameterizedQuery[] sqlQueries =
+        from int id in ids
+        select `INSERT INTO TestBatchInsertTable (id, name) VALUES (${id}, ${"chunked-" + id.toString()})`;
+    BatchExecutionResult result = check oracledbClient->batchExecuteInChunks(sqlQueries, chunkSize = 2);
+    test:assertEquals(result.affectedRowCount, 5);
+    test:assertEquals(result.failures.length(), 2);
+    test:assertEquals(result.failures[0].index, 2);
+    test:assertEquals(result.failures[0].errorCode, 1);
+    test:assertTrue(result.failures[0].message.includes("ORA-00001"));
+    test:assertEquals(result.failures[1].index, 5);
+
+    int count = check oracledbClient->queryRow(
+        `SELECT COUNT(*) FROM TestBatchInsertTable WHERE name LIKE 'chunked-%'`);
+    test:assertEquals(count, 5);
+
+    BatchExecutionResult|sql:Error invalidResult = oracledbClient->batchExecuteInChunks(sqlQueries, chunkSize = 0);
+    if invalidResult is sql:ApplicationError {
+        test:assertTrue(invalidResult.message().includes("Parameter 'chunkSize' should be greater than zero"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+    check oracledbClient.close();
+}
+
+type BulkLoadRow record {|
+    int id;
+    decimal amount;
+    string? name;
+|};
+
+@test:Config {
+    groups: ["batch-execute", "bulk-load"]
+}
+function bulkLoadFromStream() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestBulkLoadTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestBulkLoadTable(
+        id NUMBER PRIMARY KEY, amount NUMBER(10, 2), name VARCHAR2(50))`);
+
+    stream<BulkLoadRow, error?> rows = stream from int i in 1 ... 2500
+        select {id: i, amount: <decimal>i / 4, name: i % 10 == 0 ? () : string `name-${i}`};
+    BulkLoadResult result = check oracledbClient->bulkLoad("TestBulkLoadTable", rows,
+        {batchSize: 1000, commitInterval: 2000});
+    test:assertEquals(result.rowCount, 2500);
+    test:assertTrue(result.rowsPerSecond > 0.0, "The load rate should be reported");
+
+    rows = stream from int i in 2501 ... 3000
+        select {id: i, amount: 1, name: ()};
+    result = check oracledbClient->bulkLoad("TestBulkLoadTable", rows, {batchSize: 200, directPath: true});
+    test:assertEquals(result.rowCount, 500);
+
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM TestBulkLoadTable WHERE name IS NULL`);
+    test:assertEquals(count, 750);
+    decimal amount = check oracledbClient->queryRow(`SELECT amount FROM TestBulkLoadTable WHERE id = 2499`);
+    test:assertEquals(amount, 624.75d);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["batch-execute", "bulk-load"],
+    dependsOn: [bulkLoadFromStream]
+}
+function bulkLoadFailure() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    stream<BulkLoadRow, error?> rows = stream from int i in [3001, 3002, 3003, 1, 3005]
+        select {id: i, amount: 1, name: "duplicate"};
+    BulkLoadResult|sql:Error result = oracledbClient->bulkLoad("TestBulkLoadTable", rows,
+        {batchSize: 2, commitInterval: 2});
+    if result is sql:DatabaseError {
+        test:assertTrue(result.message().includes("2 rows were committed before the failure"));
+    } else {
+        test:assertFail("Database Error expected.");
+    }
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM TestBulkLoadTable WHERE name = 'duplicate'`);
+    test:assertEquals(count, 2);
+
+    rows = stream from int i in 4001 ... 4002 select {id: i, amount: 1, name: ()};
+    result = oracledbClient->bulkLoad("TestBulkLoadTable", rows, {columns: ["id", "missing"]});
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().includes("does not match a field"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+
+    rows = stream from int i in 4001 ... 4002 select {id: i, amount: 1, name: ()};
+    result = oracledbClient->bulkLoad("TestBulkLoadTable; DROP TABLE X", rows);
+    if result is sql:ApplicationError {
+        test:assertTrue(result.message().includes("is not a valid identifier"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+    check oracledbClient.close();
+}
+
 isolated function validateBatchExecutionResult(sql:ExecutionResult[] results, int[] rowCount, int[] lastId) 
 returns error? {
     test:assertEquals(results.length(), rowCount.length());
@@ -685,6 +685,100 @@ isolated function testCallFunctionReturningNestedObjectWithNullField() returns e
     check oracledbClient.close();
 }
 
+@test:Config {
+    groups: ["procedures"]
+}
+function testCallWithRefCursorOutParameter() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    decimal id = 1;
+    RefCursorOutParameter cursor = new (fetchSize = 2);
+    sql:ProcedureCallResult ret = check oracledbClient->call(
+        `{call SelectDataWithRefCursorAndNumber(${id}, ${cursor})}`);
+    stream<CallStringTypes, sql:Error?> resultStream = cursor.get();
+    CallStringTypes[] result = check from CallStringTypes row in resultStream select row;
+    CallStringTypes expectedDataRow = {
+        ID: 1,
+        COL_CHAR: "test0",
+        COL_NCHAR: "test1",
+        COL_VARCHAR2: "test2",
+        COL_VARCHAR: "test3",
+        COL_NVARCHAR2: "test4"
+    };
+    test:assertEquals(result, [expectedDataRow], "Result did not match.");
+    check ret.close();
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["procedures"]
+}
+function testCallWithRefCursorOutParameterReadonlyRows() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    decimal id = 1;
+    RefCursorOutParameter cursor = new;
+    sql:ProcedureCallResult ret = check oracledbClient->call(
+        `{call SelectDataWithRefCursorAndNumber(${id}, ${cursor})}`);
+    stream<readonly & CallStringTypes, sql:Error?> resultStream = cursor.get();
+    (readonly & CallStringTypes)[] result = check from readonly & CallStringTypes row in resultStream select row;
+    test:assertEquals(result.length(), 1, "Result length did not match.");
+    test:assertEquals(result[0].COL_VARCHAR2, "test2", "COL_VARCHAR2 did not match.");
+    check ret.close();
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["procedures"]
+}
+function testCallWithRefCursorOutParameterClosedEarly() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    RefCursorOutParameter activeCursor = new (fetchSize = 1);
+    RefCursorOutParameter upcomingCursor = new;
+    sql:ProcedureCallResult ret = check oracledbClient->call(
+        `{call SelectStringDataWithRefCursor(${activeCursor}, ${upcomingCursor})}`);
+
+    stream<record {}, sql:Error?> activeStream = activeCursor.get();
+    record {|record {} value;|}? firstRow = check activeStream.next();
+    test:assertTrue(firstRow is record {|record {} value;|}, "First row of the cursor was not returned.");
+    check activeStream.close();
+    record {|record {} value;|}|sql:Error? afterClose = activeStream.next();
+    test:assertTrue(afterClose is sql:Error, "Reading a closed cursor stream should fail.");
+
+    stream<record {}, sql:Error?> upcomingStream = upcomingCursor.get();
+    record {}[] upcomingRows = check from record {} row in upcomingStream select row;
+    test:assertEquals(upcomingRows.length(), 4, "Result length did not match.");
+    check ret.close();
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["procedures"]
+}
+isolated function testCallWithPlsqlIndexTables() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int[] ids = from int i in 1 ... 10000 select i;
+    PlsqlIndexTableValue numbers = new (ids);
+    PlsqlIndexTableOutParameter doubled = new ("NUMBER", ids.length());
+    sql:ProcedureCallResult ret = check oracledbClient->call(
+        `{call CallIndexTablePkg.DoubleNumbers(${numbers}, ${doubled})}`);
+    int[] doubledIds = check doubled.get();
+    test:assertEquals(doubledIds.length(), 10000, "Length of the returned table did not match.");
+    test:assertEquals(doubledIds[0], 2, "First element did not match.");
+    test:assertEquals(doubledIds[9999], 20000, "Last element did not match.");
+    float[]|sql:Error doubledFloats = doubled.get();
+    test:assertTrue(doubledFloats is float[], "Numbers should also be returned as float[].");
+    check ret.close();
+
+    PlsqlIndexTableValue strings = new (["alpha", "beta"]);
+    PlsqlIndexTableOutParameter upper = new ("VARCHAR2", 2, 100);
+    ret = check oracledbClient->call(`{call CallIndexTablePkg.UpperStrings(${strings}, ${upper})}`);
+    string[] upperStrings = check upper.get();
+    test:assertEquals(upperStrings, ["ALPHA", "BETA"], "Returned strings did not match.");
+    boolean|sql:Error mismatch = upper.get();
+    test:assertTrue(mismatch is sql:Error, "Expected a type mismatch error when getting the table as boolean.");
+    check ret.close();
+    check oracledbClient.close();
+}
+
 isolated function callQueryClient(Client oracledbClient, sql:ParameterizedQuery sqlQuery)
 returns record {}|error {
     stream<record {}, error?> streamData = oracledbClient->query(sqlQuery);
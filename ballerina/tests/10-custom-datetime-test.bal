@@ -413,3 +413,23 @@ isolated function selectTimestampWithInvalidReturnType() returns error? {
         test:assertFail("ApplicationError Error expected.");
     }
 }
+
+type IntervalPrecisionReturnType record {
+    IntervalDayToSecond col_interval_day_to_second;
+};
+
+@test:Config {
+    groups: ["datetime"],
+    dependsOn: [insertIntervalNull]
+}
+isolated function insertAndSelectIntervalWithNanosecondSeconds() returns error? {
+    IntervalDayToSecond intervalDtoS = {days: 3, hours: 23, minutes: 59, seconds: 59.123456789, sign: -1};
+    sql:ExecutionResult result = check executeQuery(`INSERT INTO TestDateTimeTable(COL_INTERVAL_DAY_TO_SECOND)
+        VALUES (${intervalDtoS})`);
+    test:assertExactEquals(result.affectedRowCount, 1, "Affected row count is different.");
+
+    record {}? data = check queryClient(`SELECT COL_INTERVAL_DAY_TO_SECOND FROM TestDateTimeTable
+        WHERE COL_INTERVAL_DAY_TO_SECOND = ${intervalDtoS}`, IntervalPrecisionReturnType);
+    test:assertEquals(data, {col_interval_day_to_second: intervalDtoS},
+        "Fractional seconds of the interval were not preserved");
+}
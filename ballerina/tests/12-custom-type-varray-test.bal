@@ -416,6 +416,25 @@ isolated function selectVarrayWithRecordType() returns error? {
     }
 }
 
+@test:Config {
+    groups: ["custom-varray"],
+    dependsOn: [insertVarrayWithNullElements]
+}
+isolated function selectVarrayHavingNullElementsAsNonNullableArray() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    stream<record {|int[] col_intarr;|}, error?> intStream = oracledbClient->query(
+        `SELECT COL_INTARR FROM TestVarrayTable WHERE pk = 4`);
+    record {|record {|int[] col_intarr;|} value;|}|error? intData = intStream.next();
+    check intStream.close();
+    stream<record {|float[] col_floatarr;|}, error?> floatStream = oracledbClient->query(
+        `SELECT COL_FLOATARR FROM TestVarrayTable WHERE pk = 4`);
+    record {|record {|float[] col_floatarr;|} value;|}|error? floatData = floatStream.next();
+    check floatStream.close();
+    check oracledbClient.close();
+    test:assertTrue(intData is error, "Null elements should not be returned as zero in an int[].");
+    test:assertTrue(floatData is error, "Null elements should not be returned as zero in a float[].");
+}
+
 type ArrayRecordType3 record {
     int pk;
     string?[]? col_chararr;
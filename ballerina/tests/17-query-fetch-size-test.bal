@@ -0,0 +1,212 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/sql;
+import ballerina/test;
+
+const int FETCH_SIZE_TEST_ROW_COUNT = 2000;
+
+type SequenceRecord record {
+    int ID;
+};
+
+@test:Config {
+    groups: ["query", "fetch-size"]
+}
+function queryWithFetchSizeOption() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        connectionPool = {maxOpenConnections: 1});
+    int defaultRoundTrips = check countQueryRoundTrips(oracledbClient, ());
+    int tunedRoundTrips = check countQueryRoundTrips(oracledbClient, {fetchSize: 500});
+    check oracledbClient.close();
+
+    io:println(string `Fetching ${FETCH_SIZE_TEST_ROW_COUNT} rows took ${defaultRoundTrips} round trips with the ` +
+        string `default prefetch and ${tunedRoundTrips} round trips with a fetch size of 500 ` +
+        string `(${defaultRoundTrips - tunedRoundTrips} round trips saved)`);
+    test:assertTrue(tunedRoundTrips < defaultRoundTrips, "Fetch size did not reduce the number of round trips");
+}
+
+@test:Config {
+    groups: ["query", "fetch-size"]
+}
+function queryWithDefaultRowPrefetchOption() returns error? {
+    Client defaultClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        connectionPool = {maxOpenConnections: 1});
+    int defaultRoundTrips = check countQueryRoundTrips(defaultClient, ());
+    check defaultClient.close();
+
+    Options options = {
+        defaultRowPrefetch: 500,
+        defaultLobPrefetchSize: 32768
+    };
+    Client prefetchClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, options,
+        connectionPool = {maxOpenConnections: 1});
+    int tunedRoundTrips = check countQueryRoundTrips(prefetchClient, ());
+    check prefetchClient.close();
+
+    io:println(string `Fetching ${FETCH_SIZE_TEST_ROW_COUNT} rows took ${defaultRoundTrips} round trips with the ` +
+        string `default prefetch and ${tunedRoundTrips} round trips with a row prefetch of 500 ` +
+        string `(${defaultRoundTrips - tunedRoundTrips} round trips saved)`);
+    test:assertTrue(tunedRoundTrips < defaultRoundTrips, "Row prefetch did not reduce the number of round trips");
+}
+
+@test:Config {
+    groups: ["query", "fetch-size"]
+}
+function queryWithInvalidFetchSizeOption() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    stream<SequenceRecord, sql:Error?> resultStream = oracledbClient->queryWithOptions(
+        `SELECT LEVEL AS ID FROM DUAL CONNECT BY LEVEL <= 5`, {fetchSize: -1});
+    int count = 0;
+    check from SequenceRecord _ in resultStream
+        do {
+            count += 1;
+        };
+    check oracledbClient.close();
+    test:assertEquals(count, 5, "A non-positive fetch size should fall back to the client default");
+}
+
+@test:Config {
+    groups: ["query", "fetch-size"]
+}
+function queryWithTooLargeFetchSizeOption() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    stream<SequenceRecord, sql:Error?> resultStream = oracledbClient->queryWithOptions(
+        `SELECT LEVEL AS ID FROM DUAL CONNECT BY LEVEL <= 5`, {fetchSize: 2147483648});
+    record {|SequenceRecord value;|}|sql:Error? result = resultStream.next();
+    check resultStream.close();
+    check oracledbClient.close();
+    test:assertTrue(result is sql:ApplicationError, "A fetch size above the int range should be rejected");
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "Fetch size should not be greater than 2147483647, but found 2147483648.");
+    }
+}
+
+@test:Config {
+    groups: ["query", "fetch-size"]
+}
+function createClientWithTooLargePrefetchOptions() {
+    Options[] invalidOptions = [{defaultRowPrefetch: 2147483648}, {defaultLobPrefetchSize: 2147483648},
+        {statementCacheSize: 2147483648}];
+    string[] optionNames = ["defaultRowPrefetch", "defaultLobPrefetchSize", "statementCacheSize"];
+    foreach int i in 0 ..< invalidOptions.length() {
+        Client|sql:Error oracledbClient = new (HOST, USER, PASSWORD, DATABASE, PORT, invalidOptions[i]);
+        test:assertTrue(oracledbClient is sql:ApplicationError,
+            string `A value of '${optionNames[i]}' above the int range should be rejected`);
+        if oracledbClient is sql:ApplicationError {
+            test:assertEquals(oracledbClient.message(),
+                string `${optionNames[i]} should not be greater than 2147483647, but found 2147483648.`);
+        }
+    }
+}
+
+function countQueryRoundTrips(Client oracledbClient, QueryOptions? queryOptions) returns int|error {
+    int roundTripsBefore = check getSessionRoundTrips(oracledbClient);
+    sql:ParameterizedQuery sqlQuery = `SELECT LEVEL AS ID FROM DUAL CONNECT BY LEVEL <= ${FETCH_SIZE_TEST_ROW_COUNT}`;
+    stream<SequenceRecord, sql:Error?> resultStream;
+    if queryOptions is () {
+        resultStream = oracledbClient->query(sqlQuery);
+    } else {
+        resultStream = oracledbClient->queryWithOptions(sqlQuery, queryOptions);
+    }
+    int count = 0;
+    check from SequenceRecord _ in resultStream
+        do {
+            count += 1;
+        };
+    test:assertEquals(count, FETCH_SIZE_TEST_ROW_COUNT);
+    return check getSessionRoundTrips(oracledbClient) - roundTripsBefore;
+}
+
+function getSessionRoundTrips(Client oracledbClient) returns int|error {
+    decimal roundTrips = check oracledbClient->queryRow(
+        `SELECT s.VALUE FROM V$MYSTAT s JOIN V$STATNAME n ON s.STATISTIC# = n.STATISTIC#
+         WHERE n.NAME = 'SQL*Net roundtrips to/from client'`);
+    return <int>roundTrips;
+}
+
+@test:Config {
+    groups: ["query", "export"]
+}
+function exportQueryToCsv() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    string path = "build/export-test.csv";
+    int rowCount = check oracledbClient->exportQuery(
+        `SELECT LEVEL AS ID, 'Row, ' || LEVEL AS NAME, NULL AS EMPTY FROM DUAL CONNECT BY LEVEL <= 3`, path);
+    check oracledbClient.close();
+    test:assertEquals(rowCount, 3);
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines, ["ID,NAME,EMPTY", "1,\"Row, 1\",", "2,\"Row, 2\",", "3,\"Row, 3\","]);
+}
+
+@test:Config {
+    groups: ["query", "export"]
+}
+function exportQueryToNdjson() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    string path = "build/export-test.ndjson";
+    int rowCount = check oracledbClient->exportQuery(
+        `SELECT LEVEL AS ID, 'Say "' || LEVEL || '"' AS NAME, NULL AS EMPTY FROM DUAL CONNECT BY LEVEL <= 2`, path,
+        {format: NDJSON, fetchSize: 1});
+    check oracledbClient.close();
+    test:assertEquals(rowCount, 2);
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines.length(), 2);
+    json row = check lines[1].fromJsonString();
+    test:assertEquals(row, {ID: 2, NAME: "Say \"2\"", EMPTY: ()});
+}
+
+@test:Config {
+    groups: ["query", "export"]
+}
+function exportQueryWithInvalidQuery() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int|sql:Error result = oracledbClient->exportQuery(`SELECT * FROM EXPORT_MISSING_TABLE`,
+        "build/export-test-invalid.csv");
+    check oracledbClient.close();
+    test:assertTrue(result is sql:DatabaseError, "Exporting an invalid query should return a database error");
+}
+
+@test:Config {
+    groups: ["query", "export"]
+}
+function exportQueryToChannel() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    string path = "build/export-test-channel.csv";
+    io:WritableByteChannel channel = check io:openWritableFile(path);
+    int rowCount = check oracledbClient->exportQueryToChannel(
+        `SELECT LEVEL AS ID, TO_DATE('2024-01-02 10:20:30', 'YYYY-MM-DD HH24:MI:SS') AS CREATED FROM DUAL
+        CONNECT BY LEVEL <= 5`, channel, {fetchSize: 2});
+    check channel.close();
+    check oracledbClient.close();
+    test:assertEquals(rowCount, 5);
+    string[] lines = check io:fileReadLines(path);
+    test:assertEquals(lines, ["ID,CREATED", "1,2024-01-02T10:20:30", "2,2024-01-02T10:20:30",
+        "3,2024-01-02T10:20:30", "4,2024-01-02T10:20:30", "5,2024-01-02T10:20:30"]);
+}
+
+@test:Config {
+    groups: ["query", "export"]
+}
+function exportQueryToChannelWithInvalidQuery() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    io:WritableByteChannel channel = check io:openWritableFile("build/export-test-channel-invalid.csv");
+    int|sql:Error result = oracledbClient->exportQueryToChannel(`SELECT * FROM EXPORT_MISSING_TABLE`, channel);
+    check channel.close();
+    check oracledbClient.close();
+    test:assertTrue(result is sql:DatabaseError, "Exporting an invalid query should return a database error");
+}
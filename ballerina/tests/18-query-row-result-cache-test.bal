@@ -0,0 +1,119 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/sql;
+import ballerina/test;
+
+type CachedProduct record {
+    int ID;
+    string NAME;
+    decimal PRICE;
+};
+
+@test:BeforeGroups {
+    value: ["result-cache"]
+}
+isolated function createResultCacheTable() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestResultCacheTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestResultCacheTable(
+        id NUMBER PRIMARY KEY, name VARCHAR2(50), price NUMBER(10, 2))`);
+    _ = check oracledbClient->execute(`INSERT INTO TestResultCacheTable VALUES (1, 'Pen', 10.5)`);
+    _ = check oracledbClient->execute(`INSERT INTO TestResultCacheTable VALUES (2, 'Book', 25)`);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function queryRowWithResultCache() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {resultCache: {capacity: 10}});
+    int id = 1;
+    CachedProduct product = check oracledbClient->queryRow(`SELECT * FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(product, {ID: 1, NAME: "Pen", PRICE: 10.5d});
+    test:assertTrue(product is readonly, "Cached result should be immutable");
+
+    _ = check oracledbClient->execute(`UPDATE TestResultCacheTable SET price = 12 WHERE id = 1`);
+    product = check oracledbClient->queryRow(`SELECT * FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(product.PRICE, 10.5d, "Result should be served from the cache");
+
+    decimal price = check oracledbClient->queryRow(`SELECT price FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(price, 12d, "Results of a different query should not be served from the cache");
+
+    oracledbClient.invalidateResultCache(`SELECT * FROM TestResultCacheTable WHERE id = ${id}`);
+    product = check oracledbClient->queryRow(`SELECT * FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(product.PRICE, 12d, "Invalidated result should be fetched from the database");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "result-cache"],
+    dependsOn: [queryRowWithResultCache]
+}
+function queryRowWithResultCacheExpiry() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        {resultCache: {capacity: 1, timeToLive: 1}});
+    int id = 2;
+    string name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    _ = check oracledbClient->execute(`UPDATE TestResultCacheTable SET name = 'Notebook' WHERE id = 2`);
+    name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(name, "Book", "Result should be served from the cache");
+
+    runtime:sleep(1.5);
+    name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(name, "Notebook", "Expired result should be fetched from the database");
+
+    _ = check oracledbClient->execute(`UPDATE TestResultCacheTable SET name = 'Book' WHERE id = 2`);
+    int otherId = 1;
+    _ = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${otherId}`, string);
+    name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(name, "Book", "Evicted result should be fetched from the database");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "result-cache"],
+    dependsOn: [queryRowWithResultCacheExpiry]
+}
+function queryRowWithResultCacheInTransaction() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {resultCache: {}});
+    int id = 2;
+    string name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(name, "Book");
+    transaction {
+        _ = check oracledbClient->execute(`UPDATE TestResultCacheTable SET name = 'Diary' WHERE id = 2`);
+        name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+        test:assertEquals(name, "Diary", "Results should not be served from the cache within transactions");
+        check commit;
+    }
+    oracledbClient.invalidateResultCache();
+    name = check oracledbClient->queryRow(`SELECT name FROM TestResultCacheTable WHERE id = ${id}`);
+    test:assertEquals(name, "Diary");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "result-cache"]
+}
+function queryRowWithInvalidResultCacheConfig() {
+    Client|sql:Error oracledbClient = new (HOST, USER, PASSWORD, DATABASE, PORT, {resultCache: {capacity: 0}});
+    if oracledbClient is sql:ApplicationError {
+        test:assertTrue(oracledbClient.message().includes("should be greater than zero"));
+    } else {
+        test:assertFail("ApplicationError Error expected");
+    }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+type AsyncRecord record {|
+    int id;
+    decimal amount;
+    string? name;
+    float ratio;
+    byte[] data;
+|};
+
+@test:BeforeGroups {
+    value: ["async-execution"]
+}
+isolated function createAsyncExecutionTable() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestAsyncExecutionTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestAsyncExecutionTable(
+        id NUMBER PRIMARY KEY, amount NUMBER(10, 2), name VARCHAR2(50), ratio BINARY_DOUBLE, data RAW(16))`);
+    _ = check dropTableIfExists("TestAsyncCallTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestAsyncCallTable(id NUMBER PRIMARY KEY)`);
+    _ = check oracledbClient->execute(`CREATE OR REPLACE PROCEDURE InsertAsyncCallRow(p_id IN NUMBER) AS
+        BEGIN
+            INSERT INTO TestAsyncCallTable (id) VALUES (p_id);
+        END;`);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["execute", "async-execution"]
+}
+function executeWithAsyncExecution() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {useAsyncExecution: true});
+    foreach int i in 1 ... 100 {
+        string? name = i % 10 == 0 ? () : string `name-${i}`;
+        byte[] data = [1, 2, <byte>(i % 256)];
+        sql:ExecutionResult result = check oracledbClient->execute(`INSERT INTO TestAsyncExecutionTable
+            VALUES (${i}, ${<decimal>i / 2}, ${name}, ${<float>i / 4}, ${data})`);
+        test:assertEquals(result.affectedRowCount, 1);
+        test:assertTrue(result.lastInsertId is string, "Last Insert Id should be string.");
+    }
+    sql:ExecutionResult result = check oracledbClient->execute(
+        `UPDATE TestAsyncExecutionTable SET ratio = ratio * 2 WHERE id > 90`);
+    test:assertEquals(result.affectedRowCount, 10);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "async-execution"],
+    dependsOn: [executeWithAsyncExecution]
+}
+function queryWithAsyncExecution() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        {useAsyncExecution: true, defaultRowPrefetch: 20});
+    stream<AsyncRecord, sql:Error?> resultStream = oracledbClient->query(
+        `SELECT * FROM TestAsyncExecutionTable ORDER BY id`);
+    AsyncRecord[] records = check from AsyncRecord rec in resultStream select rec;
+    test:assertEquals(records.length(), 100);
+    test:assertEquals(records[9], {id: 10, amount: 5d, name: (), ratio: 2.5, data: [1, 2, 10]});
+    test:assertEquals(records[99].ratio, 50.0);
+
+    int minId = 50;
+    stream<record {}, sql:Error?> openStream = oracledbClient->query(
+        `SELECT id, name FROM TestAsyncExecutionTable WHERE id > ${minId} ORDER BY id`);
+    record {|record {} value;|}? first = check openStream.next();
+    check openStream.close();
+    test:assertEquals(first?.value, {ID: 51d, NAME: "name-51"});
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "async-execution"],
+    dependsOn: [executeWithAsyncExecution]
+}
+function queryWithAsyncExecutionFallback() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {useAsyncExecution: true});
+    stream<readonly & AsyncRecord, sql:Error?> readonlyStream = oracledbClient->query(
+        `SELECT * FROM TestAsyncExecutionTable WHERE id = 10`);
+    (readonly & AsyncRecord)[] readonlyRecords = check from readonly & AsyncRecord rec in readonlyStream select rec;
+    test:assertEquals(readonlyRecords, [{id: 10, amount: 5d, name: (), ratio: 2.5, data: [1, 2, 10]}]);
+
+    stream<record {}, sql:Error?> dateStream = oracledbClient->query(
+        `SELECT id, TO_DATE('2021-06-15', 'YYYY-MM-DD') AS created FROM TestAsyncExecutionTable WHERE id <= 5`);
+    record {}[] dateRecords = check from record {} rec in dateStream select rec;
+    test:assertEquals(dateRecords.length(), 5);
+    test:assertTrue(dateRecords[0]["CREATED"] !is (), "DATE column should be returned.");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "async-execution"],
+    dependsOn: [executeWithAsyncExecution]
+}
+function concurrentQueriesWithAsyncExecution() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {useAsyncExecution: true},
+        connectionPool = {maxOpenConnections: 10});
+    future<int|error>[] futures = [];
+    foreach int i in 1 ... 200 {
+        future<int|error> f = start countAsyncRows(oracledbClient, i % 100);
+        futures.push(f);
+    }
+    foreach int i in 0 ..< futures.length() {
+        int count = check wait futures[i];
+        test:assertEquals(count, 100 - (i + 1) % 100);
+    }
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "async-execution"],
+    dependsOn: [executeWithAsyncExecution]
+}
+function queryWithAsyncExecutionError() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {useAsyncExecution: true});
+    stream<record {}, sql:Error?> resultStream = oracledbClient->query(`SELECT * FROM NonExistentAsyncTable`);
+    record {|record {} value;|}|sql:Error? result = resultStream.next();
+    test:assertTrue(result is sql:DatabaseError, "Database Error expected.");
+
+    sql:ExecutionResult|sql:Error executionResult = oracledbClient->execute(
+        `INSERT INTO TestAsyncExecutionTable (id) VALUES (1)`);
+    test:assertTrue(executionResult is sql:DatabaseError, "Database Error expected.");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["procedures", "async-execution"]
+}
+function callWithAsyncExecution() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, {useAsyncExecution: true});
+    foreach int i in 1 ... 10 {
+        sql:ProcedureCallResult result = check oracledbClient->call(`CALL InsertAsyncCallRow(${i})`);
+        test:assertTrue(result.executionResult is sql:ExecutionResult, "Execution result expected.");
+        test:assertFalse(check result.getNextQueryResult(), "No further results expected.");
+        check result.close();
+    }
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM TestAsyncCallTable`);
+    test:assertEquals(count, 10);
+
+    sql:IntegerOutParameter total = new;
+    sql:ProcedureCallResult result = check oracledbClient->call(
+        `BEGIN SELECT COUNT(*) INTO ${total} FROM TestAsyncCallTable; END;`);
+    check result.close();
+    test:assertEquals(check total.get(int), 10, "OUT parameters should be read by the call processor.");
+    check oracledbClient.close();
+}
+
+isolated function countAsyncRows(Client oracledbClient, int minId) returns int|error {
+    stream<record {|int id;|}, sql:Error?> resultStream = oracledbClient->query(
+        `SELECT id FROM TestAsyncExecutionTable WHERE id > ${minId}`);
+    int count = 0;
+    check from record {|int id;|} _ in resultStream
+        do {
+            count += 1;
+        };
+    return count;
+}
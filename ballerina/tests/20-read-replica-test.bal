@@ -0,0 +1,67 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+@test:Config {
+    groups: ["query", "read-replica"]
+}
+function queryWithReadReplica() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        connectionPool = {maxOpenConnections: 1},
+        readReplica = {host: HOST, port: PORT, connectionPool: {maxOpenConnections: 1}});
+
+    string replicaSession = check oracledbClient->queryRow(`SELECT SYS_CONTEXT('USERENV', 'SID') FROM DUAL`);
+    stream<record {|string SID;|}, sql:Error?> sessionStream =
+        oracledbClient->query(`SELECT SYS_CONTEXT('USERENV', 'SID') AS SID FROM DUAL`);
+    record {|string SID;|}[] sessions = check from record {|string SID;|} session in sessionStream select session;
+    test:assertEquals(sessions[0].SID, replicaSession, "Queries should be routed to the read replica");
+
+    string primarySession = "";
+    transaction {
+        primarySession = check oracledbClient->queryRow(`SELECT SYS_CONTEXT('USERENV', 'SID') FROM DUAL`);
+        check commit;
+    }
+    test:assertNotEquals(primarySession, replicaSession,
+        "Queries within transactions should be executed on the primary");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "read-replica"]
+}
+function queryWithoutReadReplica() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+        connectionPool = {maxOpenConnections: 1});
+    string session = check oracledbClient->queryRow(`SELECT SYS_CONTEXT('USERENV', 'SID') FROM DUAL`);
+    string transactionSession = "";
+    transaction {
+        transactionSession = check oracledbClient->queryRow(`SELECT SYS_CONTEXT('USERENV', 'SID') FROM DUAL`);
+        check commit;
+    }
+    test:assertEquals(transactionSession, session);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["connection", "read-replica"]
+}
+function initWithInvalidReadReplica() {
+    Client|sql:Error oracledbClient = new (HOST, USER, PASSWORD, DATABASE, PORT,
+        readReplica = {host: HOST, port: PORT, password: "invalid"});
+    test:assertTrue(oracledbClient is sql:Error, "Client creation should fail when the read replica is invalid");
+}
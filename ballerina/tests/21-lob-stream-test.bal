@@ -0,0 +1,149 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+const int LOB_STREAM_TEST_SIZE = 100000;
+
+@test:BeforeGroups {
+    value: ["lob-stream"]
+}
+isolated function createLobStreamTable() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestLobStreamTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestLobStreamTable(id NUMBER PRIMARY KEY, blob_col BLOB,
+        clob_col CLOB)`);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "lob-stream"]
+}
+function insertAndQueryBlobAsStream() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    byte[] content = [];
+    foreach int i in 0 ..< LOB_STREAM_TEST_SIZE {
+        content.push(<byte>(i % 256));
+    }
+    sql:BlobValue blobValue = new (content);
+    _ = check oracledbClient->execute(`INSERT INTO TestLobStreamTable(id, blob_col) VALUES (1, ${blobValue})`);
+
+    int id = 1;
+    stream<byte[], sql:Error?> blobStream = oracledbClient->queryBlob(
+        `SELECT blob_col FROM TestLobStreamTable WHERE id = ${id}`);
+    byte[] streamedContent = [];
+    int chunkCount = 0;
+    check from byte[] chunk in blobStream
+        do {
+            streamedContent.push(...chunk);
+            chunkCount += 1;
+        };
+    check oracledbClient.close();
+    test:assertEquals(streamedContent, content, "Streamed BLOB content mismatch");
+    test:assertTrue(chunkCount > 1, "BLOB should be read in more than one chunk");
+}
+
+@test:Config {
+    groups: ["query", "lob-stream"]
+}
+function insertAndQueryClobAsStream() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    string[] lines = [];
+    foreach int i in 0 ..< LOB_STREAM_TEST_SIZE / 10 {
+        lines.push(i.toString().padZero(9));
+    }
+    string content = string:'join("\n", ...lines);
+    sql:ClobValue clobValue = new (content);
+    _ = check oracledbClient->execute(`INSERT INTO TestLobStreamTable(id, clob_col) VALUES (2, ${clobValue})`);
+
+    int id = 2;
+    stream<string, sql:Error?> clobStream = oracledbClient->queryClob(
+        `SELECT clob_col FROM TestLobStreamTable WHERE id = ${id}`);
+    string streamedContent = "";
+    check from string chunk in clobStream
+        do {
+            streamedContent += chunk;
+        };
+    check oracledbClient.close();
+    test:assertEquals(streamedContent, content, "Streamed CLOB content mismatch");
+}
+
+@test:Config {
+    groups: ["query", "lob-stream"]
+}
+function closeBlobStreamBeforeFullyRead() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, connectionPool = {maxOpenConnections: 1});
+    stream<byte[], sql:Error?> blobStream = oracledbClient->queryBlob(
+        `SELECT TO_BLOB(UTL_RAW.CAST_TO_RAW(RPAD('a', 2000, 'a'))) FROM DUAL`);
+    record {|byte[] value;|}? chunk = check blobStream.next();
+    test:assertTrue(chunk is record {|byte[] value;|}, "BLOB stream should return a chunk");
+    check blobStream.close();
+
+    // The single pooled connection must have been released by closing the stream
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM DUAL`);
+    test:assertEquals(count, 1);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "lob-stream"]
+}
+function queryBlobWithoutRows() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int id = -1;
+    stream<byte[], sql:Error?> blobStream = oracledbClient->queryBlob(
+        `SELECT blob_col FROM TestLobStreamTable WHERE id = ${id}`);
+    record {|byte[] value;|}|sql:Error? result = blobStream.next();
+    check oracledbClient.close();
+    test:assertTrue(result is sql:NoRowsError, "Query without rows should return an sql:NoRowsError");
+}
+
+type BFileRecord record {
+    BFile? col_bfile;
+};
+
+@test:Config {
+    groups: ["query", "lob-stream", "bfile"]
+}
+function queryBFileLocator() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    string directory = "BFILE_DIR";
+    string fileName = "missing.bin";
+    BFileRecord result = check oracledbClient->queryRow(
+        `SELECT BFILENAME(${directory}, ${fileName}) AS col_bfile FROM DUAL`);
+    test:assertEquals(result.col_bfile, {directory: "BFILE_DIR", fileName: "missing.bin"},
+        "BFILE locator should be retrieved without opening the file");
+
+    BFileRecord nullResult = check oracledbClient->queryRow(`SELECT CAST(NULL AS BFILE) AS col_bfile FROM DUAL`);
+    test:assertEquals(nullResult.col_bfile, ());
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "lob-stream", "bfile"]
+}
+function readMissingBFile() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    BFile bfile = {directory: "BFILE_DIR", fileName: "missing.bin"};
+    stream<byte[], sql:Error?> content = oracledbClient->readBFile(bfile);
+    record {|byte[] value;|}|sql:Error? chunk = content.next();
+    test:assertTrue(chunk is sql:DatabaseError, "Reading a missing BFILE should return an sql:DatabaseError");
+
+    int|sql:Error written = oracledbClient->readBFileToFile(bfile, "build/missing.bin");
+    test:assertTrue(written is sql:DatabaseError, "Copying a missing BFILE should return an sql:DatabaseError");
+    check oracledbClient.close();
+}
@@ -0,0 +1,76 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/sql;
+import ballerina/test;
+
+// The VECTOR type requires Oracle Database 23ai, hence these tests are disabled against the test container.
+
+type EmbeddingRecord record {
+    int ID;
+    float[] EMBEDDING;
+};
+
+@test:BeforeGroups {
+    value: ["vector"]
+}
+isolated function createVectorTable() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestVectorTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestVectorTable(id NUMBER PRIMARY KEY,
+        embedding VECTOR(4, FLOAT64))`);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["vector"],
+    enable: false
+}
+function insertAndQueryVector() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    float[] embedding = [0.25, -1.5, 3.0, 1.0E-3];
+    VectorValue vector = new (embedding);
+    _ = check oracledbClient->execute(`INSERT INTO TestVectorTable VALUES (1, ${vector})`);
+
+    int id = 1;
+    EmbeddingRecord result = check oracledbClient->queryRow(`SELECT id, embedding FROM TestVectorTable
+        WHERE id = ${id}`);
+    test:assertEquals(result, {ID: 1, EMBEDDING: embedding});
+
+    string vectorString = check oracledbClient->queryRow(`SELECT embedding FROM TestVectorTable WHERE id = ${id}`);
+    test:assertTrue(vectorString.startsWith("["), "VECTOR should be retrievable as a string");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["vector"],
+    enable: false,
+    dependsOn: [insertAndQueryVector]
+}
+function batchInsertVectors() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    int[] ids = [2, 3, 4];
+    float[][] embeddings = [[1, 2, 3, 4], [5, 6, 7, 8], [9, 10, 11, 12]];
+    int count = check oracledbClient->batchInsert(`INSERT INTO TestVectorTable VALUES (${ids}, ${embeddings})`);
+    test:assertEquals(count, 3);
+
+    stream<EmbeddingRecord, sql:Error?> resultStream = oracledbClient->query(
+        `SELECT id, embedding FROM TestVectorTable WHERE id > 1 ORDER BY id`);
+    float[][] storedEmbeddings = check from EmbeddingRecord embeddingRecord in resultStream
+        select embeddingRecord.EMBEDDING;
+    check oracledbClient.close();
+    test:assertEquals(storedEmbeddings, embeddings);
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+// The native JSON type requires Oracle Database 21c or later, hence these tests are disabled against the test
+// container.
+
+type OrderDocumentRecord record {
+    int ID;
+    map<json> DOC;
+};
+
+@test:BeforeGroups {
+    value: ["json"]
+}
+isolated function createJsonTable() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    _ = check dropTableIfExists("TestJsonTable", oracledbClient);
+    _ = check oracledbClient->execute(`CREATE TABLE TestJsonTable(id NUMBER PRIMARY KEY, doc JSON)`);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["json"],
+    enable: false
+}
+function insertAndQueryJson() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    map<json> document = {
+        customer: "John",
+        total: 120.5d,
+        quantity: 3,
+        express: true,
+        notes: (),
+        items: [{sku: "A-100", price: 40.5d}, {sku: "B-200", price: 80}]
+    };
+    JsonValue jsonValue = new (document);
+    _ = check oracledbClient->execute(`INSERT INTO TestJsonTable VALUES (1, ${jsonValue})`);
+
+    int id = 1;
+    OrderDocumentRecord result = check oracledbClient->queryRow(`SELECT id, doc FROM TestJsonTable
+        WHERE id = ${id}`);
+    test:assertEquals(result, {ID: 1, DOC: document});
+
+    json customer = check oracledbClient->queryRow(`SELECT t.doc.customer FROM TestJsonTable t WHERE id = ${id}`);
+    test:assertEquals(customer, "John");
+
+    string documentString = check oracledbClient->queryRow(`SELECT doc FROM TestJsonTable WHERE id = ${id}`);
+    test:assertTrue(documentString.startsWith("{"), "JSON should be retrievable as a string");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["json"],
+    enable: false,
+    dependsOn: [insertAndQueryJson]
+}
+function insertAndQueryNullJson() returns error? {
+    Client oracledbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT);
+    JsonValue jsonValue = new ();
+    _ = check oracledbClient->execute(`INSERT INTO TestJsonTable VALUES (2, ${jsonValue})`);
+
+    int id = 2;
+    json document = check oracledbClient->queryRow(`SELECT doc FROM TestJsonTable WHERE id = ${id}`);
+    test:assertEquals(document, ());
+    check oracledbClient.close();
+}
@@ -369,3 +369,28 @@ BEGIN
     RETURN CallPersonType('Jane Doe', 25, NULL);
 END;
 /
+
+CREATE OR REPLACE PACKAGE CallIndexTablePkg AS
+    TYPE NumberTable IS TABLE OF NUMBER INDEX BY PLS_INTEGER;
+    TYPE StringTable IS TABLE OF VARCHAR2(100) INDEX BY PLS_INTEGER;
+    PROCEDURE DoubleNumbers(p_numbers IN NumberTable, p_doubled OUT NumberTable);
+    PROCEDURE UpperStrings(p_strings IN StringTable, p_upper OUT StringTable);
+END CallIndexTablePkg;
+/
+
+CREATE OR REPLACE PACKAGE BODY CallIndexTablePkg AS
+    PROCEDURE DoubleNumbers(p_numbers IN NumberTable, p_doubled OUT NumberTable) IS
+    BEGIN
+        FOR i IN 1 .. p_numbers.COUNT LOOP
+            p_doubled(i) := p_numbers(i) * 2;
+        END LOOP;
+    END;
+
+    PROCEDURE UpperStrings(p_strings IN StringTable, p_upper OUT StringTable) IS
+    BEGIN
+        FOR i IN 1 .. p_strings.COUNT LOOP
+            p_upper(i) := UPPER(p_strings(i));
+        END LOOP;
+    END;
+END CallIndexTablePkg;
+/
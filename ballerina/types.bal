@@ -46,6 +46,17 @@ public type IntervalDayToSecond record {|
     decimal seconds?;
 |};
 
+# Represents the locator of an Oracle BFILE, which points to a binary file stored outside the database. A BFILE column
+# can be retrieved as this record without opening the file, and the content of the file can be read with the
+# `readBFile` and `readBFileToFile` methods of the client.
+#
+# + directory - Name of the directory object in which the file is located
+# + fileName - Name of the file
+public type BFile record {|
+    string directory;
+    string fileName;
+|};
+
 # Represents the Oracle UDT type, which is an abstraction of the real-world entities such as purchase orders that application programs deal with.
 #
 # + typename - Name of the object type
@@ -112,6 +123,45 @@ public distinct class NestedTableValue {
     }
 }
 
+# Represents the `VECTOR` type parameter of Oracle Database 23ai in `sql:ParameterizedQuery`. The dimensions are
+# bound as 64-bit floating point numbers and converted by the database to the format of the column.
+#
+# + value - Dimensions of the vector
+public distinct class VectorValue {
+    *sql:TypedValue;
+    public float[]? value;
+
+    public isolated function init(float[]? value = ()) {
+        self.value = value;
+    }
+}
+
+# Represents the native `JSON` type parameter of Oracle Database 21c and later in `sql:ParameterizedQuery`. The
+# value is encoded in the binary OSON format on the client, hence it is not parsed as text by the database.
+#
+# + value - Value of the parameter
+public distinct class JsonValue {
+    *sql:TypedValue;
+    public json value;
+
+    public isolated function init(json value = ()) {
+        self.value = value;
+    }
+}
+
+# Represents a PL/SQL index-by table (associative array) parameter in `sql:ParameterizedCallQuery`. The whole array
+# is passed to the procedure in a single call, and `int[]` and `float[]` values are bound as primitive arrays.
+#
+# + value - Elements of the table, which are bound to the indexes starting from 1
+public distinct class PlsqlIndexTableValue {
+    *sql:TypedValue;
+    public int[]|float[]|decimal[]|string[] value;
+
+    public isolated function init(int[]|float[]|decimal[]|string[] value) {
+        self.value = value;
+    }
+}
+
 # Represents the Oracle OBJECT type `sql:OutParameter` in `sql:ParameterizedCallQuery`.
 # Use this to capture the return value of an Oracle function that returns an OBJECT type.
 #
@@ -142,6 +192,80 @@ public distinct class ObjectOutParameter {
     } external;
 }
 
+# Represents the Oracle `SYS_REFCURSOR` `OutParameter` in `sql:ParameterizedCallQuery`.
+# The rows of the cursor are fetched lazily, `fetchSize` rows at a time, while the stream returned from `get` is
+# consumed. The cursor is closed when the stream is fully read or closed, and the stream should be consumed before
+# the `sql:ProcedureCallResult` of the call is closed.
+#
+# + fetchSize - Number of rows fetched from the cursor in each round trip. If not greater than zero, the
+#               `defaultRowPrefetch` of the client is used
+#
+# # Example
+# ```ballerina
+# oracledb:RefCursorOutParameter orders = new (fetchSize = 1000);
+# sql:ProcedureCallResult ret = check dbClient->call(`{call get_orders(${orders})}`);
+# stream<Order, sql:Error?> orderStream = orders.get();
+# Order[] orderList = check from Order 'order in orderStream select 'order;
+# check ret.close();
+# ```
+public distinct class RefCursorOutParameter {
+    public int fetchSize;
+
+    public isolated function init(int fetchSize = 0) {
+        self.fetchSize = fetchSize;
+    }
+
+    # Returns the rows of the returned REF CURSOR as a stream.
+    #
+    # + rowType - The `typedesc` of the record to which the rows need to be returned
+    # + return - Stream of records in the `rowType` type
+    public isolated function get(typedesc<record {}> rowType = <>) returns stream<rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.OutParameterProcessor",
+        name: "getRefCursorValue"
+    } external;
+}
+
+# The element types of a PL/SQL index-by table out parameter.
+public type PlsqlIndexTableElementType "NUMBER"|"VARCHAR2";
+
+# Represents a PL/SQL index-by table (associative array) `OutParameter` in `sql:ParameterizedCallQuery`.
+# The returned table can be retrieved as an `int[]`, `float[]` or `decimal[]` when its elements are numbers,
+# and as a `string[]` when its elements are strings.
+#
+# + elementType - The type of the elements of the table
+# + maxLength - The maximum number of elements the table can return
+# + elementMaxLength - The maximum length of a `VARCHAR2` element
+#
+# # Example
+# ```ballerina
+# oracledb:PlsqlIndexTableValue ids = new ([1, 2, 3]);
+# oracledb:PlsqlIndexTableOutParameter totals = new ("NUMBER", 3);
+# sql:ProcedureCallResult ret = check dbClient->call(`{call OrderPkg.GetTotals(${ids}, ${totals})}`);
+# decimal[] result = check totals.get();
+# check ret.close();
+# ```
+public distinct class PlsqlIndexTableOutParameter {
+    *sql:OutParameter;
+    public PlsqlIndexTableElementType elementType;
+    public int maxLength;
+    public int elementMaxLength;
+
+    public isolated function init(PlsqlIndexTableElementType elementType, int maxLength, int elementMaxLength = 4000) {
+        self.elementType = elementType;
+        self.maxLength = maxLength;
+        self.elementMaxLength = elementMaxLength;
+    }
+
+    # Parses the returned PL/SQL index-by table to a Ballerina array.
+    #
+    # + typeDesc - The `typedesc` of the type to which the result needs to be returned
+    # + return - The result in the `typeDesc` type, or an `sql:Error`
+    public isolated function get(typedesc<anydata> typeDesc = <>) returns typeDesc|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.OutParameterProcessor",
+        name: "getOutParameterValue"
+    } external;
+}
+
 # Represents the `XML range` `OutParameter` in `sql:ParameterizedCallQuery`.
 public distinct class XmlOutParameter {
     *sql:OutParameter;
@@ -197,3 +321,177 @@ public class CustomResultIterator {
         paramTypes: ["io.ballerina.runtime.api.values.BObject", "io.ballerina.runtime.api.values.BObject"]
     } external;
 }
+
+# The iterator for the stream returned from the `query` function when the `useAsyncExecution` option is set.
+# The rows are published by the driver and a new row is requested only when a row is consumed from the stream.
+isolated class AsyncResultIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        lock {
+            if self.isClosed {
+                return error sql:ApplicationError("Stream is closed. Therefore, no operations are allowed further " +
+                    "on the stream.");
+            }
+        }
+        record {}|sql:Error? result = nextAsyncResult(self);
+        if result is record {} {
+            return {value: result};
+        }
+        lock {
+            self.isClosed = true;
+        }
+        return result;
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.isClosed = true;
+        }
+        return closeAsyncResult(self);
+    }
+}
+
+# Holds the connection and the statement of a `bulkLoad` while the records of its stream are loaded.
+isolated class BulkLoader {
+}
+
+# The iterator for the stream returned from the `queryBlob` function. Each chunk is read from the database only when
+# it is consumed from the stream.
+isolated class BlobStreamIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|byte[] value;|}|sql:Error? {
+        lock {
+            if self.isClosed {
+                return error sql:ApplicationError("Stream is closed. Therefore, no operations are allowed further " +
+                    "on the stream.");
+            }
+        }
+        byte[]|sql:Error? chunk = nextBlobChunk(self);
+        if chunk is byte[] {
+            return {value: chunk};
+        }
+        lock {
+            self.isClosed = true;
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.isClosed = true;
+        }
+        return closeLobStream(self);
+    }
+}
+
+# The iterator for the stream returned from the `queryClob` function. Each chunk is read from the database only when
+# it is consumed from the stream.
+isolated class ClobStreamIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|string value;|}|sql:Error? {
+        lock {
+            if self.isClosed {
+                return error sql:ApplicationError("Stream is closed. Therefore, no operations are allowed further " +
+                    "on the stream.");
+            }
+        }
+        string|sql:Error? chunk = nextClobChunk(self);
+        if chunk is string {
+            return {value: chunk};
+        }
+        lock {
+            self.isClosed = true;
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.isClosed = true;
+        }
+        return closeLobStream(self);
+    }
+}
+
+# The iterator of the chunks of the results written by the `exportQueryToChannel` function. Each chunk holds the rows
+# fetched from the database in a single round trip and is read only when the previous chunk is written.
+isolated class ExportChunkIterator {
+    isolated function next() returns byte[]|int|sql:Error {
+        return nextExportChunk(self);
+    }
+
+    isolated function close() returns sql:Error? {
+        return closeExport(self);
+    }
+}
+
+# The iterator for the stream returned from `RefCursorOutParameter.get`. Each row is read from the cursor only when
+# it is consumed from the stream.
+isolated class RefCursorIterator {
+    private boolean isClosed = false;
+
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        lock {
+            if self.isClosed {
+                return error sql:ApplicationError("Stream is closed. Therefore, no operations are allowed further " +
+                    "on the stream.");
+            }
+        }
+        record {}|sql:Error? result = nextRefCursorRow(self);
+        if result is record {} {
+            return {value: result};
+        }
+        lock {
+            self.isClosed = true;
+        }
+        return result;
+    }
+
+    public isolated function close() returns sql:Error? {
+        lock {
+            self.isClosed = true;
+        }
+        return closeRefCursor(self);
+    }
+}
+
+isolated function nextAsyncResult(AsyncResultIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.AsyncProcessor",
+    name: "nextResult"
+} external;
+
+isolated function closeAsyncResult(AsyncResultIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.AsyncProcessor",
+    name: "closeResult"
+} external;
+
+isolated function nextBlobChunk(BlobStreamIterator iterator) returns byte[]|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+} external;
+
+isolated function nextClobChunk(ClobStreamIterator iterator) returns string|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+} external;
+
+isolated function closeLobStream(BlobStreamIterator|ClobStreamIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.LobProcessor"
+} external;
+
+isolated function nextRefCursorRow(RefCursorIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.OutParameterProcessor"
+} external;
+
+isolated function closeRefCursor(RefCursorIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.OutParameterProcessor"
+} external;
+
+isolated function nextExportChunk(ExportChunkIterator iterator) returns byte[]|int|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor"
+} external;
+
+isolated function closeExport(ExportChunkIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor"
+} external;
@@ -0,0 +1,103 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/sql;
+import ballerina/time;
+import ballerinax/oracledb;
+import ballerinax/oracledb.driver as _;
+
+configurable string USER = ?;
+configurable string PASSWORD = ?;
+configurable string HOST = ?;
+configurable int PORT = ?;
+configurable string DATABASE = ?;
+configurable int ARRAY_LENGTH = 10000;
+configurable int ITERATIONS = 200;
+
+// The maximum size of the VARRAY types, which cannot be bound as a parameter of the DDL statements
+const int MAX_ARRAY_LENGTH = 100000;
+
+// Compares binding VARRAY parameters of `int[]` and `float[]` elements, which are passed to the driver as primitive
+// `long[]` and `double[]` arrays, with binding the same elements as `int?[]` and `float?[]`, which are copied into
+// boxed `Long[]` and `Double[]` arrays as the elements may be nil.
+public function main() returns error? {
+    if ARRAY_LENGTH > MAX_ARRAY_LENGTH {
+        return error(string `ARRAY_LENGTH should not be greater than ${MAX_ARRAY_LENGTH}`);
+    }
+    oracledb:Client dbClient = check new (host = HOST, user = USER, password = PASSWORD, port = PORT,
+        database = DATABASE, options = {statementCacheSize: 10});
+    check createTypes(dbClient);
+
+    int[] intElements = [];
+    int?[] nullableIntElements = [];
+    float[] floatElements = [];
+    float?[] nullableFloatElements = [];
+    foreach int i in 0 ..< ARRAY_LENGTH {
+        intElements.push(i);
+        nullableIntElements.push(i);
+        floatElements.push(<float>i / 3);
+        nullableFloatElements.push(<float>i / 3);
+    }
+
+    // The first binds of each path warm up the JIT, the type descriptors and the statement cache of the connection
+    foreach int i in 0 ..< 10 {
+        _ = check bind(dbClient, "BENCH_INT_ARRAY", intElements);
+        _ = check bind(dbClient, "BENCH_INT_ARRAY", nullableIntElements);
+        _ = check bind(dbClient, "BENCH_FLOAT_ARRAY", floatElements);
+        _ = check bind(dbClient, "BENCH_FLOAT_ARRAY", nullableFloatElements);
+    }
+
+    decimal primitiveIntTime = 0;
+    decimal boxedIntTime = 0;
+    decimal primitiveFloatTime = 0;
+    decimal boxedFloatTime = 0;
+    foreach int i in 0 ..< ITERATIONS {
+        primitiveIntTime += check bind(dbClient, "BENCH_INT_ARRAY", intElements);
+        boxedIntTime += check bind(dbClient, "BENCH_INT_ARRAY", nullableIntElements);
+        primitiveFloatTime += check bind(dbClient, "BENCH_FLOAT_ARRAY", floatElements);
+        boxedFloatTime += check bind(dbClient, "BENCH_FLOAT_ARRAY", nullableFloatElements);
+    }
+    check dbClient.close();
+
+    io:println(string `Array length: ${ARRAY_LENGTH}, iterations: ${ITERATIONS}`);
+    printResult("int[] (primitive)", primitiveIntTime);
+    printResult("int?[] (boxed)", boxedIntTime);
+    printResult("float[] (primitive)", primitiveFloatTime);
+    printResult("float?[] (boxed)", boxedFloatTime);
+}
+
+function createTypes(oracledb:Client dbClient) returns error? {
+    _ = check dbClient->execute(`CREATE OR REPLACE TYPE BENCH_INT_ARRAY AS VARRAY(100000) OF NUMBER`);
+    _ = check dbClient->execute(`CREATE OR REPLACE TYPE BENCH_FLOAT_ARRAY AS VARRAY(100000) OF BINARY_DOUBLE`);
+}
+
+// Returns the time taken to bind the elements as a VARRAY and to count them on the server
+function bind(oracledb:Client dbClient, string typeName, int?[]|float?[] elements) returns decimal|error {
+    decimal startTime = time:monotonicNow();
+    oracledb:VarrayValue varray = new ({name: typeName, elements});
+    int count = check dbClient->queryRow(`SELECT COUNT(*) FROM TABLE(${varray})`);
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    if count != ARRAY_LENGTH {
+        return error sql:ApplicationError(string `Expected ${ARRAY_LENGTH} elements, but found ${count}`);
+    }
+    return elapsedTime;
+}
+
+function printResult(string path, decimal totalTime) {
+    decimal averageTime = totalTime / ITERATIONS;
+    io:println(string `${path}: ${averageTime * 1000} ms per bind`);
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/sql;
+import ballerina/time;
+import ballerinax/oracledb;
+import ballerinax/oracledb.driver as _;
+
+configurable string USER = ?;
+configurable string PASSWORD = ?;
+configurable string HOST = ?;
+configurable int PORT = ?;
+configurable string DATABASE = ?;
+configurable int ROW_COUNT = 100000;
+configurable int ITERATIONS = 10;
+
+const string EXPORT_FILE = "export-benchmark.ndjson";
+
+type BenchmarkRow record {|
+    int ID;
+    string NAME;
+    decimal PRICE;
+    time:Civil CREATED;
+|};
+
+// Compares writing the rows of a query as newline-delimited JSON to a file through the record stream of `query` with
+// writing them through `exportQueryToChannel` and `exportQuery`, which write the rows without creating records.
+public function main() returns error? {
+    oracledb:Client dbClient = check new (host = HOST, user = USER, password = PASSWORD, port = PORT,
+        database = DATABASE);
+    check createTable(dbClient);
+    sql:ParameterizedQuery query = `SELECT ID, NAME, PRICE, CREATED FROM EXPORT_BENCHMARK`;
+
+    // The first run of each path warms up the JIT and the statement cache of the connection
+    _ = check exportThroughRecordStream(dbClient, query);
+    _ = check exportThroughChannel(dbClient, query);
+    _ = check dbClient->exportQuery(query, EXPORT_FILE, {format: oracledb:NDJSON});
+
+    decimal recordStreamTime = 0;
+    decimal channelTime = 0;
+    decimal fileTime = 0;
+    foreach int i in 0 ..< ITERATIONS {
+        decimal startTime = time:monotonicNow();
+        _ = check exportThroughRecordStream(dbClient, query);
+        recordStreamTime += time:monotonicNow() - startTime;
+
+        startTime = time:monotonicNow();
+        _ = check exportThroughChannel(dbClient, query);
+        channelTime += time:monotonicNow() - startTime;
+
+        startTime = time:monotonicNow();
+        _ = check dbClient->exportQuery(query, EXPORT_FILE, {format: oracledb:NDJSON});
+        fileTime += time:monotonicNow() - startTime;
+    }
+    check dbClient.close();
+
+    io:println(string `Rows: ${ROW_COUNT}, iterations: ${ITERATIONS}`);
+    printResult("query (record stream)", recordStreamTime);
+    printResult("exportQueryToChannel", channelTime);
+    printResult("exportQuery", fileTime);
+}
+
+function createTable(oracledb:Client dbClient) returns error? {
+    sql:ExecutionResult|sql:Error result = dbClient->execute(`DROP TABLE EXPORT_BENCHMARK`);
+    if result is sql:Error && !result.message().includes("ORA-00942") {
+        return result;
+    }
+    _ = check dbClient->execute(`CREATE TABLE EXPORT_BENCHMARK (ID NUMBER(10) PRIMARY KEY, NAME VARCHAR2(100),
+        PRICE NUMBER(12, 2), CREATED DATE)`);
+    _ = check dbClient->execute(`INSERT INTO EXPORT_BENCHMARK SELECT LEVEL, 'Product "' || LEVEL || '"',
+        LEVEL / 100, DATE '2024-01-01' + LEVEL / 1440 FROM DUAL CONNECT BY LEVEL <= ${ROW_COUNT}`);
+}
+
+function exportThroughRecordStream(oracledb:Client dbClient, sql:ParameterizedQuery query) returns int|error {
+    io:WritableByteChannel channel = check io:openWritableFile(EXPORT_FILE);
+    stream<BenchmarkRow, sql:Error?> rows = dbClient->query(query);
+    int rowCount = 0;
+    check from BenchmarkRow row in rows
+        do {
+            check writeFully(channel, (row.toJsonString() + "\n").toBytes());
+            rowCount += 1;
+        };
+    check channel.close();
+    return rowCount;
+}
+
+function exportThroughChannel(oracledb:Client dbClient, sql:ParameterizedQuery query) returns int|error {
+    io:WritableByteChannel channel = check io:openWritableFile(EXPORT_FILE);
+    int rowCount = check dbClient->exportQueryToChannel(query, channel, {format: oracledb:NDJSON});
+    check channel.close();
+    return rowCount;
+}
+
+function writeFully(io:WritableByteChannel channel, byte[] content) returns error? {
+    int offset = 0;
+    while offset < content.length() {
+        offset += check channel.write(content, offset);
+    }
+}
+
+function printResult(string path, decimal totalTime) {
+    decimal averageTime = totalTime / ITERATIONS;
+    decimal rowsPerSecond = averageTime > 0d ? <decimal>ROW_COUNT / averageTime : 0;
+    io:println(string `${path}: ${averageTime * 1000} ms per export, ${rowsPerSecond.round()} rows per second`);
+}
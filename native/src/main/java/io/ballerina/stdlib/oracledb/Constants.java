@@ -58,6 +58,101 @@ public final class Constants {
         public static final BString CONNECT_TIMEOUT_SECONDS = StringUtils.fromString("connectTimeout");
         public static final BString SOCKET_TIMEOUT_SECONDS = StringUtils.fromString("socketTimeout");
         public static final BString USE_XA_DATASOURCE = StringUtils.fromString("useXADatasource");
+        public static final BString DEFAULT_ROW_PREFETCH = StringUtils.fromString("defaultRowPrefetch");
+        public static final BString DEFAULT_LOB_PREFETCH_SIZE = StringUtils.fromString("defaultLobPrefetchSize");
+        public static final BString STATEMENT_CACHE_SIZE = StringUtils.fromString("statementCacheSize");
+        public static final BString RESULT_CACHE = StringUtils.fromString("resultCache");
+        public static final BString USE_ASYNC_EXECUTION = StringUtils.fromString("useAsyncExecution");
+        public static final BString RETURN_GENERATED_KEYS = StringUtils.fromString("returnGeneratedKeys");
+        public static final BString REGISTER_POOL_MBEANS = StringUtils.fromString("registerPoolMBeans");
+        public static final BString CONNECT_DESCRIPTOR = StringUtils.fromString("connectDescriptor");
+        public static final BString WARM_UP = StringUtils.fromString("warmUp");
+    }
+
+    /**
+     * Constants for the connection pool warm-up configurations.
+     */
+    public static final class WarmUp {
+
+        private WarmUp() {}
+
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString STATEMENTS = StringUtils.fromString("statements");
+    }
+
+    /**
+     * Constants for the listener address configurations.
+     */
+    public static final class Address {
+
+        private Address() {}
+
+        public static final BString HOST = StringUtils.fromString("host");
+        public static final BString PORT = StringUtils.fromString("port");
+    }
+
+    /**
+     * Constants for the connect descriptor configurations.
+     */
+    public static final class ConnectDescriptor {
+
+        private ConnectDescriptor() {}
+
+        public static final BString LOAD_BALANCE = StringUtils.fromString("loadBalance");
+        public static final BString FAILOVER = StringUtils.fromString("failover");
+        public static final BString CONNECT_TIMEOUT = StringUtils.fromString("connectTimeout");
+        public static final BString TRANSPORT_CONNECT_TIMEOUT = StringUtils.fromString("transportConnectTimeout");
+        public static final BString RETRY_COUNT = StringUtils.fromString("retryCount");
+        public static final BString RETRY_DELAY = StringUtils.fromString("retryDelay");
+    }
+
+    /**
+     * Constants for the result cache configurations.
+     */
+    public static final class ResultCacheConfig {
+
+        private ResultCacheConfig() {}
+
+        public static final BString CAPACITY = StringUtils.fromString("capacity");
+        public static final BString TIME_TO_LIVE = StringUtils.fromString("timeToLive");
+    }
+
+    /**
+     * Constants for per-query options.
+     */
+    public static final class QueryOptions {
+
+        private QueryOptions() {}
+
+        public static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
+    }
+
+    /**
+     * Constants for the fields of the `PlsqlIndexTableOutParameter` object.
+     */
+    public static final class PlsqlIndexTable {
+
+        private PlsqlIndexTable() {}
+
+        public static final String VARCHAR2 = "VARCHAR2";
+        public static final BString ELEMENT_TYPE = StringUtils.fromString("elementType");
+        public static final BString MAX_LENGTH = StringUtils.fromString("maxLength");
+        public static final BString ELEMENT_MAX_LENGTH = StringUtils.fromString("elementMaxLength");
+    }
+
+    /**
+     * Constants related to the `exportQuery` remote method.
+     */
+    public static final class ExportFormat {
+
+        private ExportFormat() {}
+
+        public static final String CSV = "CSV";
+        public static final String NDJSON = "NDJSON";
+        public static final BString FORMAT = StringUtils.fromString("format");
+        public static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
+        public static final BString INCLUDE_HEADER = StringUtils.fromString("includeHeader");
+        public static final int BUFFER_SIZE = 65536;
     }
 
     /**
@@ -138,6 +233,72 @@ public final class Constants {
 
         public static final BString CONNECT_TIMEOUT = StringUtils.fromString("connectionTimeout");
         public static final BString AUTO_COMMIT = StringUtils.fromString("autoCommit");
+        public static final BString POOL_NAME = StringUtils.fromString("poolName");
+        public static final BString REGISTER_MBEANS = StringUtils.fromString("registerMbeans");
+        public static final BString METRICS_TRACKER_FACTORY = StringUtils.fromString("metricsTrackerFactory");
+    }
+
+    /**
+     * Constants related to the statistics of the connection pool.
+     */
+    public static final class PoolStats {
+
+        private PoolStats() {}
+
+        public static final String RECORD = "PoolStats";
+        public static final String POOL_NAME_PREFIX = "oracledb-";
+        public static final String POOL_OBJECT_NAME = "com.zaxxer.hikari:type=Pool (%s)";
+        public static final String ACTIVE_CONNECTIONS = "activeConnections";
+        public static final String IDLE_CONNECTIONS = "idleConnections";
+        public static final String TOTAL_CONNECTIONS = "totalConnections";
+        public static final String THREADS_AWAITING_CONNECTION = "threadsAwaitingConnection";
+        public static final String MAX_OPEN_CONNECTIONS = "maxOpenConnections";
+        public static final String MIN_IDLE_CONNECTIONS = "minIdleConnections";
+    }
+
+    /**
+     * Constants for the `BatchExecutionResult` and `BatchFailure` records.
+     */
+    public static final class BatchExecutionResult {
+
+        private BatchExecutionResult() {}
+
+        public static final String RECORD = "BatchExecutionResult";
+        public static final String FAILURE_RECORD = "BatchFailure";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String FAILURES = "failures";
+        public static final String INDEX = "index";
+        public static final String ERROR_CODE = "errorCode";
+        public static final String SQL_STATE = "sqlState";
+        public static final String MESSAGE = "message";
+    }
+
+    /**
+     * Constants related to the `bulkLoad` remote method.
+     */
+    public static final class BulkLoad {
+
+        private BulkLoad() {}
+
+        public static final String LOADER_OBJECT = "BulkLoader";
+        public static final String RESULT_RECORD = "BulkLoadResult";
+        public static final String ROW_COUNT = "rowCount";
+        public static final String ELAPSED_TIME = "elapsedTime";
+        public static final String ROWS_PER_SECOND = "rowsPerSecond";
+        public static final BString COLUMNS = StringUtils.fromString("columns");
+        public static final BString DIRECT_PATH = StringUtils.fromString("directPath");
+        public static final BString COMMIT_INTERVAL = StringUtils.fromString("commitInterval");
+    }
+
+    /**
+     * Constants for the fields of the `sql:ConnectionPool` record.
+     */
+    public static final class ConnectionPool {
+
+        private ConnectionPool() {}
+
+        public static final BString MAX_OPEN_CONNECTIONS = StringUtils.fromString("maxOpenConnections");
+        public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
     }
 
     /**
@@ -159,6 +320,7 @@ public final class Constants {
 
         public static final String INTERVAL_YEAR_TO_MONTH_RECORD = "IntervalYearToMonth";
         public static final String INTERVAL_DAY_TO_SECOND_RECORD = "IntervalDayToSecond";
+        public static final String BFILE_RECORD = "BFile";
 
         /**
          * Constants related to Oracle Database type names.
@@ -183,6 +345,9 @@ public final class Constants {
             public static final String OBJECT = "ObjectTypeValue";
             public static final String VARRAY = "VarrayValue";
             public static final String NESTED_TABLE = "NestedTableValue";
+            public static final String VECTOR = "VectorValue";
+            public static final String JSON = "JsonValue";
+            public static final String PLSQL_INDEX_TABLE = "PlsqlIndexTableValue";
         }
 
         /**
@@ -196,6 +361,8 @@ public final class Constants {
             public static final String INTERVAL_YEAR_TO_MONTH = "IntervalYearToMonthOutParameter";
             public static final String INTERVAL_DAY_TO_SECOND = "IntervalDayToSecondOutParameter";
             public static final String OBJECT = "ObjectOutParameter";
+            public static final String REF_CURSOR = "RefCursorOutParameter";
+            public static final String PLSQL_INDEX_TABLE = "PlsqlIndexTableOutParameter";
         }
 
         /**
@@ -235,6 +402,17 @@ public final class Constants {
             public static final String ATTRIBUTES = "attributes";
         }
 
+        /**
+         * Constants related to the attributes of BFILE Oracle DB type.
+         */
+        public static final class BFile {
+
+            private BFile() {}
+
+            public static final String DIRECTORY = "directory";
+            public static final String FILE_NAME = "fileName";
+        }
+
         /**
          * Constants related to the attributes of VARRAY Oracle DB type.
          */
@@ -264,10 +442,90 @@ public final class Constants {
         }
     }
 
+    /**
+     * Constants for the keys of the native data stored in the client object.
+     */
+    public static final class NativeData {
+
+        private NativeData() {}
+
+        public static final String STATEMENT_PARAMETER_PROCESSOR = "OracleDBStatementParameterProcessor";
+        public static final String RESULT_CACHE = "OracleDBResultCache";
+        public static final String ASYNC_EXECUTION = "OracleDBAsyncExecution";
+        public static final String GENERATED_KEYS_DISABLED = "OracleDBGeneratedKeysDisabled";
+        public static final String ASYNC_RESULT_SUBSCRIBER = "OracleDBAsyncResultSubscriber";
+        public static final String ASYNC_CALL_RESULT = "OracleDBAsyncCallResult";
+        public static final String METRICS = "OracleDBMetrics";
+        public static final String READ_REPLICA = "OracleDBReadReplica";
+        public static final String READ_REPLICA_QUERIES = "OracleDBReadReplicaQueries";
+        public static final String POOL_METRICS = "OracleDBPoolMetrics";
+        public static final String LOB_STREAM_READER = "OracleDBLobStreamReader";
+        public static final String EXPORT_CHUNK_READER = "OracleDBExportChunkReader";
+        public static final String BULK_LOADER = "OracleDBBulkLoader";
+        public static final String REF_CURSOR_READER = "OracleDBRefCursorReader";
+    }
+
+    /**
+     * Constants related to the `sql:ExecutionResult` record.
+     */
+    public static final class ExecutionResult {
+
+        private ExecutionResult() {}
+
+        public static final String RECORD = "ExecutionResult";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String LAST_INSERT_ID = "lastInsertId";
+    }
+
+    /**
+     * Constants related to the `sql:ProcedureCallResult` object.
+     */
+    public static final class ProcedureCallResult {
+
+        private ProcedureCallResult() {}
+
+        public static final String OBJECT = "ProcedureCallResult";
+        public static final BString EXECUTION_RESULT = StringUtils.fromString("executionResult");
+        public static final String OUT_PARAMETER_SUFFIX = "OutParameter";
+    }
+
+    /**
+     * Constants for the names of the OracleDB specific metrics.
+     */
+    public static final class Metrics {
+
+        private Metrics() {}
+
+        public static final String STATEMENT_CACHE_HITS = "oracledb_statement_cache_hits_total";
+        public static final String STATEMENT_CACHE_MISSES = "oracledb_statement_cache_misses_total";
+        public static final String STATEMENT_CACHE_EVICTIONS = "oracledb_statement_cache_evictions_total";
+        public static final String RESULT_CACHE_HITS = "oracledb_result_cache_hits_total";
+        public static final String RESULT_CACHE_MISSES = "oracledb_result_cache_misses_total";
+        public static final String RESULT_CACHE_EVICTIONS = "oracledb_result_cache_evictions_total";
+        public static final String TYPE_DESCRIPTOR_CACHE_HITS = "oracledb_type_descriptor_cache_hits_total";
+        public static final String TYPE_DESCRIPTOR_CACHE_MISSES = "oracledb_type_descriptor_cache_misses_total";
+        public static final String READ_REPLICA_QUERIES = "oracledb_read_replica_queries_total";
+        public static final String WARM_UP_DURATION = "oracledb_pool_warm_up_duration_seconds";
+        public static final String WARM_UP_CONNECTIONS = "oracledb_pool_warm_up_connections";
+        public static final String POOL_CONNECTION_ACQUIRE_TIME = "oracledb_pool_connection_acquire_time_seconds";
+        public static final String POOL_CONNECTION_USAGE_TIME = "oracledb_pool_connection_usage_time_seconds";
+        public static final String POOL_CONNECTION_TIMEOUTS = "oracledb_pool_connection_timeouts_total";
+        public static final String POOL_ACTIVE_CONNECTIONS = "oracledb_pool_active_connections";
+        public static final String POOL_IDLE_CONNECTIONS = "oracledb_pool_idle_connections";
+        public static final String POOL_TOTAL_CONNECTIONS = "oracledb_pool_total_connections";
+        public static final String POOL_PENDING_REQUESTS = "oracledb_pool_pending_requests";
+    }
+
     public static final String DRIVER = "jdbc:oracle:thin:@";
     public static final String PROTOCOL_TCP = "TCP";
     public static final String PROTOCOL_TCPS = "TCPS";
     public static final String ORACLE_DATASOURCE_NAME = "oracle.jdbc.pool.OracleDataSource";
     public static final String ORACLE_XA_DATASOURCE_NAME = "oracle.jdbc.xa.client.OracleXADataSource";
     public static final String CUSTOM_RESULT_ITERATOR_OBJECT = "CustomResultIterator";
+    public static final String ASYNC_RESULT_ITERATOR_OBJECT = "AsyncResultIterator";
+    public static final String REF_CURSOR_ITERATOR_OBJECT = "RefCursorIterator";
+    public static final String BLOB_STREAM_ITERATOR_OBJECT = "BlobStreamIterator";
+    public static final String CLOB_STREAM_ITERATOR_OBJECT = "ClobStreamIterator";
+    public static final String EXPORT_CHUNK_ITERATOR_OBJECT = "ExportChunkIterator";
+    public static final String NO_ROWS_ERROR = "NoRowsError";
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.cache;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.observability.OracleDBMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * This class is the client-side result cache used by the `queryRow` remote method. Results are keyed on the SQL
+ * text, the bound parameter values and the expected return type, and are served until their time to live expires.
+ * Once the cache is full, the least recently used result is evicted. Cached results are frozen so that concurrent
+ * strands can share them without copying.
+ *
+ * @since 1.17.0
+ */
+public class QueryResultCache {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final int capacity;
+    private final long timeToLiveNanos;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final LinkedHashMap<CacheKey, CacheEntry> entries;
+
+    public QueryResultCache(int capacity, long timeToLiveNanos, OracleDBMetrics metrics) {
+        this.capacity = capacity;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.hits = metrics.counter(Constants.Metrics.RESULT_CACHE_HITS,
+                "Number of query results served from the result cache");
+        this.misses = metrics.counter(Constants.Metrics.RESULT_CACHE_MISSES,
+                "Number of query results that were not found in the result cache");
+        this.evictions = metrics.counter(Constants.Metrics.RESULT_CACHE_EVICTIONS,
+                "Number of query results evicted from the result cache");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > QueryResultCache.this.capacity) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Return the cached result of the given query or load it and cache it if it is not cached.
+     * Errors are not cached, and queries with parameters that cannot be compared by value are always loaded.
+     * @param paramSQLString parameterized query
+     * @param returnType type description of the result
+     * @param loader function which executes the query
+     * @return cached or loaded result
+     */
+    public Object getOrLoad(BObject paramSQLString, BTypedesc returnType, Supplier<Object> loader) {
+        String query = getQueryKey(paramSQLString);
+        if (query == null) {
+            return loader.get();
+        }
+        CacheKey key = new CacheKey(query, returnType.getDescribingType());
+        synchronized (this) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (System.nanoTime() - entry.createdTime < timeToLiveNanos) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entries.remove(key);
+            }
+        }
+        misses.increment();
+        Object result = loader.get();
+        if (result instanceof BError) {
+            return result;
+        }
+        if (result instanceof BRefValue) {
+            ((BRefValue) result).freezeDirect();
+        }
+        synchronized (this) {
+            entries.put(key, new CacheEntry(result, System.nanoTime()));
+        }
+        return result;
+    }
+
+    /**
+     * Remove the cached results of the given query for all the return types.
+     * @param paramSQLString parameterized query
+     */
+    public synchronized void invalidate(BObject paramSQLString) {
+        String query = getQueryKey(paramSQLString);
+        if (query != null) {
+            entries.keySet().removeIf(key -> key.query.equals(query));
+        }
+    }
+
+    /**
+     * Remove all the cached results.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    private static String getQueryKey(BObject paramSQLString) {
+        StringBuilder query = new StringBuilder(io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString));
+        BArray insertions = paramSQLString.getArrayValue(
+                io.ballerina.stdlib.sql.Constants.ParameterizedQueryFields.INSERTIONS);
+        for (int i = 0; i < insertions.size(); i++) {
+            Object value = insertions.get(i);
+            query.append(SEPARATOR);
+            if (value instanceof BObject) {
+                // Typed values are compared by their type and the value they hold.
+                BObject typedValue = (BObject) value;
+                if (!typedValue.getType().getFields().containsKey(Constants.TypedValueFields.VALUE.getValue())) {
+                    return null;
+                }
+                query.append(typedValue.getType().getName());
+                value = typedValue.get(Constants.TypedValueFields.VALUE);
+            }
+            if (value instanceof BObject || value instanceof BStream) {
+                return null;
+            }
+            if (value != null) {
+                query.append(TypeUtils.getType(value).getTag());
+            }
+            query.append(':').append(StringUtils.getExpressionStringValue(value));
+        }
+        return query.toString();
+    }
+
+    private static final class CacheKey {
+
+        private final String query;
+        private final Type type;
+
+        private CacheKey(String query, Type type) {
+            this.query = query;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return query.equals(other.query) && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + type.hashCode();
+        }
+    }
+
+    private static final class CacheEntry {
+
+        private final Object value;
+        private final long createdTime;
+
+        private CacheEntry(Object value, long createdTime) {
+            this.value = value;
+            this.createdTime = createdTime;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.cache;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.observability.OracleDBMetrics;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import oracle.jdbc.OracleConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * This class tracks the OBJECT and collection types resolved on each physical connection of a client. The driver
+ * keeps the descriptor of a type on the connection once it is resolved from the data dictionary, and this cache keeps
+ * the upper-cased names of those types, so that a type name is upper-cased once per connection instead of on every
+ * bind and the lookups served by the connection are counted. The names of a connection are held only as long as the
+ * physical connection is reachable, and up to `MAX_TYPES_PER_CONNECTION` names are held for each connection.
+ *
+ * @since 1.17.0
+ */
+public class TypeDescriptorCache {
+
+    private static final int MAX_TYPES_PER_CONNECTION = 64;
+
+    private final Map<OracleConnection, Map<String, String>> typeNames = new WeakHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TypeDescriptorCache(OracleDBMetrics metrics) {
+        this.hits = metrics.counter(Constants.Metrics.TYPE_DESCRIPTOR_CACHE_HITS,
+                "Number of OBJECT and collection types already resolved on the connection");
+        this.misses = metrics.counter(Constants.Metrics.TYPE_DESCRIPTOR_CACHE_MISSES,
+                "Number of OBJECT and collection types resolved from the data dictionary");
+    }
+
+    /**
+     * Return the name of the given type as it is resolved by the driver.
+     * @param connection connection on which the type is resolved
+     * @param typeName name of the type as given by the user
+     * @return upper-cased name of the type
+     * @throws SQLException if the connection is not a wrapper of an Oracle connection
+     */
+    public String getTypeName(Connection connection, String typeName) throws SQLException {
+        // The pooled connection unwraps to the physical connection, which outlives the pooled connection
+        OracleConnection physicalConnection = Utils.getOracleConnection(connection);
+        String resolvedName;
+        boolean isResolved;
+        synchronized (this) {
+            Map<String, String> connectionTypeNames = typeNames.computeIfAbsent(physicalConnection,
+                    key -> new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                            return size() > MAX_TYPES_PER_CONNECTION;
+                        }
+                    });
+            resolvedName = connectionTypeNames.get(typeName);
+            isResolved = resolvedName != null;
+            if (!isResolved) {
+                resolvedName = typeName.toUpperCase(Locale.ENGLISH);
+                connectionTypeNames.put(typeName, resolvedName);
+            }
+        }
+        if (OracleDBMetrics.isEnabled()) {
+            // A type is resolved from the data dictionary only when it is first used on a connection
+            (isResolved ? hits : misses).increment();
+        }
+        return resolvedName;
+    }
+}
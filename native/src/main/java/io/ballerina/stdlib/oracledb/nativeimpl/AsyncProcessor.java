@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.AsyncResultSubscriber;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.RowConverter;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OraclePreparedStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+/**
+ * This class executes queries, statements and procedure calls through the reactive extensions of the Oracle driver,
+ * which perform the database round trips without blocking a thread. The calling strand is parked on a future, which
+ * is completed by the callback of the driver publisher, so that a large number of in-flight queries need only the
+ * few threads of the driver.
+ *
+ * @since 1.17.0
+ */
+public class AsyncProcessor {
+
+    private AsyncProcessor() {}
+
+    /**
+     * Query the database asynchronously and return a stream of results, which is fed with back-pressure. The
+     * statement is described before it is executed, and if a column or a field of the result is not supported by the
+     * row converter, the resources of the query are released and nil is returned without executing the query, so
+     * that the query is executed through the result processor of the client instead.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @param recordType type description of the result record
+     * @param statementParameterProcessor statement parameter processor of the client
+     * @return result stream or nil if the result is not supported
+     */
+    public static BStream query(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType,
+                                DefaultStatementParameterProcessor statementParameterProcessor) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        AsyncResultSubscriber subscriber = env.yieldAndRun(() -> query(client, paramSQLString, recordType,
+                statementParameterProcessor, isWithinTrxBlock, trxResourceManager));
+        if (subscriber == null) {
+            return null;
+        }
+        return createStream(recordType, subscriber);
+    }
+
+    /**
+     * Return a stream which returns the given error to its consumer.
+     * @param recordType type description of the result record
+     * @param error error to be returned
+     * @return result stream
+     */
+    public static BStream getErrorStream(BTypedesc recordType, BError error) {
+        return createStream(recordType, AsyncResultSubscriber.failed(error));
+    }
+
+    private static BStream createStream(BTypedesc recordType, AsyncResultSubscriber subscriber) {
+        BObject resultIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.ASYNC_RESULT_ITERATOR_OBJECT);
+        resultIterator.addNativeData(Constants.NativeData.ASYNC_RESULT_SUBSCRIBER, subscriber);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), resultIterator);
+    }
+
+    private static AsyncResultSubscriber query(BObject client, BObject paramSQLString, BTypedesc recordType,
+                                               DefaultStatementParameterProcessor statementParameterProcessor,
+                                               boolean isWithinTrxBlock,
+                                               TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return AsyncResultSubscriber.failed((BError) datasource);
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            // The converter is resolved from the description of the statement, so that a query whose result is not
+            // supported is left to the result processor before it is executed
+            ResultSetMetaData metaData = statement.getMetaData();
+            RowConverter rowConverter;
+            try {
+                if (metaData == null) {
+                    throw new UnsupportedTypeError("The result of the query cannot be described.");
+                }
+                rowConverter = RowConverter.create(metaData, recordType.getDescribingType());
+            } catch (UnsupportedTypeError e) {
+                Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+                return null;
+            }
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            Connection queryConnection = connection;
+            PreparedStatement queryStatement = statement;
+            AsyncResultSubscriber subscriber = new AsyncResultSubscriber(Math.max(statement.getFetchSize(), 1),
+                    sqlQuery, () -> Utils.closeResources(isWithinTrxBlock, null, queryStatement,
+                    queryConnection));
+            subscriber.subscribe(statement.unwrap(OraclePreparedStatement.class).executeQueryAsyncOracle(),
+                    rowConverter);
+            return subscriber;
+        } catch (SQLException e) {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+            return AsyncResultSubscriber.failed(ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } catch (DataError e) {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+            return AsyncResultSubscriber.failed(ErrorGenerator.getSQLApplicationError(e.getMessage()));
+        }
+    }
+
+    /**
+     * Execute an SQL statement asynchronously.
+     * @param client client object
+     * @param paramSQLString SQL string of the statement
+     * @param statementParameterProcessor statement parameter processor of the client
+     * @return execution result or error
+     */
+    public static Object execute(Environment env, BObject client, BObject paramSQLString,
+                                 DefaultStatementParameterProcessor statementParameterProcessor) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        boolean isGeneratedKeyRetrievalEnabled = Utils.isGeneratedKeyRetrievalEnabled(client);
+        return env.yieldAndRun(() -> execute(client, paramSQLString, statementParameterProcessor,
+                isGeneratedKeyRetrievalEnabled, isWithinTrxBlock, trxResourceManager));
+    }
+
+    private static Object execute(BObject client, BObject paramSQLString,
+                                  DefaultStatementParameterProcessor statementParameterProcessor,
+                                  boolean isGeneratedKeyRetrievalEnabled, boolean isWithinTrxBlock,
+                                  TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            boolean isInsert = isGeneratedKeyRetrievalEnabled &&
+                    sqlQuery.stripLeading().toUpperCase(Locale.ENGLISH).startsWith("INSERT");
+            statement = isInsert ? connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS)
+                    : connection.prepareStatement(sqlQuery);
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            Long affectedRowCount = awaitSingle(
+                    statement.unwrap(OraclePreparedStatement.class).executeUpdateAsyncOracle());
+            Object lastInsertId = null;
+            if (isInsert) {
+                resultSet = statement.getGeneratedKeys();
+                if (resultSet.next()) {
+                    lastInsertId = StringUtils.fromString(resultSet.getString(1));
+                }
+            }
+            return createExecutionResult(affectedRowCount == null ? 0 : affectedRowCount, lastInsertId);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+        }
+    }
+
+    /**
+     * Execute a procedure call asynchronously. Only calls without OUT or INOUT parameters for which no row types
+     * are given are executed asynchronously, since the OUT parameters and the results of the other calls are read
+     * by the call processor of the client.
+     * @param client client object
+     * @param paramSQLString SQL string of the call
+     * @param recordTypes type descriptions of the results of the call
+     * @param statementParameterProcessor statement parameter processor of the client
+     * @return procedure call result, error or nil if the call is not executed asynchronously
+     */
+    public static Object call(Environment env, BObject client, BObject paramSQLString, BArray recordTypes,
+                              DefaultStatementParameterProcessor statementParameterProcessor) {
+        if (recordTypes.size() > 0 || hasOutParameters(paramSQLString)) {
+            return null;
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> call(client, paramSQLString, statementParameterProcessor, isWithinTrxBlock,
+                trxResourceManager));
+    }
+
+    private static Object call(BObject client, BObject paramSQLString,
+                               DefaultStatementParameterProcessor statementParameterProcessor,
+                               boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareCall(sqlQuery);
+            statementParameterProcessor.setParams(connection, statement, paramSQLString);
+            Boolean hasResultSet = awaitSingle(
+                    statement.unwrap(OraclePreparedStatement.class).executeAsyncOracle());
+            if (Boolean.TRUE.equals(hasResultSet)) {
+                return ErrorGenerator.getSQLApplicationError(String.format("The procedure call '%s' returned a " +
+                        "result, which can be read only when the row types of the results are given.", sqlQuery));
+            }
+            BObject procedureCallResult = ValueCreator.createObjectValue(
+                    io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(), Constants.ProcedureCallResult.OBJECT,
+                    OracleDBResultParameterProcessor.getInstance().getBalStreamResultIterator());
+            procedureCallResult.set(Constants.ProcedureCallResult.EXECUTION_RESULT,
+                    createExecutionResult(Math.max(statement.getLargeUpdateCount(), 0), null));
+            // The resources are released once the call is executed, hence the result has no further results
+            procedureCallResult.addNativeData(Constants.NativeData.ASYNC_CALL_RESULT, Boolean.TRUE);
+            return procedureCallResult;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+        }
+    }
+
+    private static boolean hasOutParameters(BObject paramSQLString) {
+        BArray insertions = paramSQLString.getArrayValue(
+                io.ballerina.stdlib.sql.Constants.ParameterizedQueryFields.INSERTIONS);
+        for (int i = 0; i < insertions.size(); i++) {
+            Object insertion = insertions.get(i);
+            // The OUT and INOUT parameters of the sql module and of this module are the only insertions whose
+            // object type names end with `OutParameter`
+            if (insertion instanceof BObject && TypeUtils.getType(insertion).getName()
+                    .endsWith(Constants.ProcedureCallResult.OUT_PARAMETER_SUFFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BMap<BString, Object> createExecutionResult(long affectedRowCount, Object lastInsertId) {
+        Map<String, Object> executionResult = new HashMap<>();
+        executionResult.put(Constants.ExecutionResult.AFFECTED_ROW_COUNT, affectedRowCount);
+        executionResult.put(Constants.ExecutionResult.LAST_INSERT_ID, lastInsertId);
+        return ValueCreator.createRecordValue(io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(),
+                Constants.ExecutionResult.RECORD, executionResult);
+    }
+
+    /**
+     * Wait for the single item emitted by a publisher of the driver. This is called within `yieldAndRun`, where the
+     * calling strand is parked until the callback of the publisher completes the future.
+     */
+    private static <T> T awaitSingle(Flow.Publisher<T> publisher) throws SQLException {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T item) {
+                future.complete(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(null);
+            }
+        });
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            throw new SQLException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Return the next result of an asynchronous query.
+     * @param resultIterator iterator of the result stream
+     * @return next record, an error or nil if there are no more results
+     */
+    public static Object nextResult(Environment env, BObject resultIterator) {
+        AsyncResultSubscriber subscriber = (AsyncResultSubscriber) resultIterator
+                .getNativeData(Constants.NativeData.ASYNC_RESULT_SUBSCRIBER);
+        return env.yieldAndRun(subscriber::next);
+    }
+
+    /**
+     * Close the result stream of an asynchronous query.
+     * @param resultIterator iterator of the result stream
+     * @return nil
+     */
+    public static Object closeResult(Environment env, BObject resultIterator) {
+        AsyncResultSubscriber subscriber = (AsyncResultSubscriber) resultIterator
+                .getNativeData(Constants.NativeData.ASYNC_RESULT_SUBSCRIBER);
+        return env.yieldAndRun(() -> {
+            subscriber.close();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.BulkLoader;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * This class contains the methods used by the `bulkLoad` remote method to load the rows of a stream into a table.
+ *
+ * @since 1.17.0
+ */
+public class BulkLoadProcessor {
+
+    private BulkLoadProcessor() {}
+
+    /**
+     * Create a loader for the rows of a stream, whose columns are mapped from the first row of the stream.
+     * @param client client object
+     * @param tableName name of the table
+     * @param firstRow first row of the stream
+     * @param options `BulkLoadOptions` record
+     * @return `BulkLoader` object or error
+     */
+    public static Object createBulkLoader(Environment env, BObject client, BString tableName,
+                                         BMap<BString, Object> firstRow, BMap<BString, Object> options) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        boolean directPath = options.getBooleanValue(Constants.BulkLoad.DIRECT_PATH);
+        long commitInterval = options.getIntValue(Constants.BulkLoad.COMMIT_INTERVAL);
+        if (isWithinTrxBlock && (directPath || commitInterval > 0)) {
+            return ErrorGenerator.getSQLApplicationError("The 'directPath' and 'commitInterval' options of bulk " +
+                    "load commit the loaded rows, hence they cannot be used within a transaction.");
+        }
+        return env.yieldAndRun(() -> {
+            Object datasource = Utils.getSQLDatasource(client);
+            if (!(datasource instanceof SQLDatasource)) {
+                return datasource;
+            }
+            String sqlQuery = null;
+            Connection connection = null;
+            try {
+                BulkLoader.Columns columns = BulkLoader.mapColumns(firstRow,
+                        (BArray) options.get(Constants.BulkLoad.COLUMNS));
+                sqlQuery = BulkLoader.createInsertQuery(tableName.getValue(), columns, directPath);
+                connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                        trxResourceManager);
+                // Direct-path inserts must be committed before the table is modified again
+                BulkLoader loader = BulkLoader.create(connection, sqlQuery, columns, isWithinTrxBlock, directPath,
+                        commitInterval);
+                BObject loaderObject = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                        Constants.BulkLoad.LOADER_OBJECT);
+                loaderObject.addNativeData(Constants.NativeData.BULK_LOADER, loader);
+                return loaderObject;
+            } catch (SQLException e) {
+                Utils.closeResources(isWithinTrxBlock, null, null, connection);
+                return ErrorGenerator.getSQLDatabaseError(e,
+                        String.format("Error while preparing bulk load query: %s. ", sqlQuery));
+            } catch (DataError e) {
+                return ErrorGenerator.getSQLApplicationError(e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Bind a row to the current batch of a bulk load. The loader is aborted if the row cannot be bound.
+     * @param loaderObject `BulkLoader` object
+     * @param row record to be loaded
+     * @return nil or error
+     */
+    public static Object addBulkLoadRow(BObject loaderObject, BMap<BString, Object> row) {
+        BulkLoader loader = getLoader(loaderObject);
+        try {
+            loader.addRow(row);
+            return null;
+        } catch (SQLException e) {
+            loader.abort();
+            return ErrorGenerator.getSQLDatabaseError(e, getFailureMessage(loader));
+        } catch (DataError e) {
+            loader.abort();
+            return ErrorGenerator.getSQLApplicationError(getFailureMessage(loader) + e.getMessage());
+        }
+    }
+
+    /**
+     * Send the current batch of a bulk load to the database. The loader is aborted if the batch fails.
+     * @param loaderObject `BulkLoader` object
+     * @return nil or error
+     */
+    public static Object flushBulkLoad(Environment env, BObject loaderObject) {
+        BulkLoader loader = getLoader(loaderObject);
+        return env.yieldAndRun(() -> {
+            try {
+                loader.flush();
+                return null;
+            } catch (SQLException e) {
+                loader.abort();
+                return ErrorGenerator.getSQLDatabaseError(e, getFailureMessage(loader));
+            }
+        });
+    }
+
+    /**
+     * Send the remaining rows of a bulk load to the database and commit them.
+     * @param loaderObject `BulkLoader` object
+     * @return `BulkLoadResult` record or error
+     */
+    public static Object finishBulkLoad(Environment env, BObject loaderObject) {
+        BulkLoader loader = getLoader(loaderObject);
+        return env.yieldAndRun(() -> {
+            try {
+                return loader.finish();
+            } catch (SQLException e) {
+                loader.abort();
+                return ErrorGenerator.getSQLDatabaseError(e, getFailureMessage(loader));
+            }
+        });
+    }
+
+    /**
+     * Roll back the rows of a bulk load which are not yet committed and release its resources.
+     * @param loaderObject `BulkLoader` object
+     * @return nil
+     */
+    public static Object abortBulkLoad(Environment env, BObject loaderObject) {
+        BulkLoader loader = getLoader(loaderObject);
+        return env.yieldAndRun(() -> {
+            loader.abort();
+            return null;
+        });
+    }
+
+    private static BulkLoader getLoader(BObject loaderObject) {
+        return (BulkLoader) loaderObject.getNativeData(Constants.NativeData.BULK_LOADER);
+    }
+
+    private static String getFailureMessage(BulkLoader loader) {
+        return String.format("Error while bulk loading rows. %d rows were committed before the failure. ",
+                loader.getCommittedRowCount());
+    }
+}
@@ -22,7 +22,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
-import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.Utils;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
 
@@ -43,8 +43,15 @@ public class CallProcessor {
      * @return procedure call result or error
      */
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client);
+        if (Utils.isAsyncExecutionEnabled(client)) {
+            Object callResult = AsyncProcessor.call(env, client, paramSQLString, recordTypes,
+                    statementParametersProcessor);
+            if (callResult != null) {
+                return callResult;
+            }
+        }
         DefaultResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
         return io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString,
@@ -18,17 +18,41 @@
 
  package io.ballerina.stdlib.oracledb.nativeimpl;
 
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.cache.QueryResultCache;
+import io.ballerina.stdlib.oracledb.cache.TypeDescriptorCache;
+import io.ballerina.stdlib.oracledb.observability.ConnectionPoolMetrics;
+import io.ballerina.stdlib.oracledb.observability.OracleDBMetrics;
+import io.ballerina.stdlib.oracledb.observability.StatementCacheMetrics;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ConnectionPoolWarmUp;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
 import io.ballerina.stdlib.oracledb.utils.Utils;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
 import io.ballerina.stdlib.sql.observability.ObservabilityUtils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 
 /**
  * This class contains the methods required for the oracledb clients.
@@ -37,6 +61,10 @@ import java.util.Properties;
  */
 public class ClientProcessor {
 
+    private static final AtomicLong POOL_SEQUENCE = new AtomicLong();
+    // Clients sharing a connection pool share its datasource, which is mapped to the metrics of the pool
+    private static final Map<SQLDatasource, ConnectionPoolMetrics> POOL_METRICS = new WeakHashMap<>();
+
     private ClientProcessor() {}
 
     /**
@@ -49,7 +77,7 @@ public class ClientProcessor {
     public static Object createClient(
             BObject client, BMap<BString, Object> clientConfig, BMap<BString, Object> globalConnPool) {
 
-        String host = clientConfig.getStringValue(Constants.ClientConfiguration.HOST).getValue();
+        Object hostVal = clientConfig.get(Constants.ClientConfiguration.HOST);
         int port = clientConfig.getIntValue(Constants.ClientConfiguration.PORT).intValue();
         BString databaseVal = clientConfig.getStringValue(Constants.ClientConfiguration.DATABASE);
         String database = databaseVal == null ? null : databaseVal.getValue();
@@ -62,8 +90,16 @@ public class ClientProcessor {
         Properties poolProperties = null;
         String protocol = Constants.PROTOCOL_TCP;
         String dataSourceName = Constants.ORACLE_DATASOURCE_NAME;
+        long statementCacheSize = -1;
+        BMap<BString, Object> resultCacheConfig = null;
+        BMap<BString, Object> warmUpConfig = null;
+        boolean registerPoolMBeans = false;
 
         if (options != null) {
+            BError optionsError = Utils.validateClientOptions(options);
+            if (optionsError != null) {
+                return optionsError;
+            }
             datasourceOptions = Utils.generateOptionsMap(options);
             poolProperties = Utils.generatePoolProperties(options);
             if (options.getMapValue(Constants.Options.SSL) != null) {
@@ -72,24 +108,78 @@ public class ClientProcessor {
             if (options.getBooleanValue(Constants.Options.USE_XA_DATASOURCE)) {
                 dataSourceName = Constants.ORACLE_XA_DATASOURCE_NAME;
             }
+            statementCacheSize = Utils.getPositiveIntValue(options.get(Constants.Options.STATEMENT_CACHE_SIZE));
+            resultCacheConfig = (BMap<BString, Object>) options.getMapValue(Constants.Options.RESULT_CACHE);
+            warmUpConfig = (BMap<BString, Object>) options.getMapValue(Constants.Options.WARM_UP);
+            if (options.getBooleanValue(Constants.Options.USE_ASYNC_EXECUTION)) {
+                client.addNativeData(Constants.NativeData.ASYNC_EXECUTION, Boolean.TRUE);
+            }
+            if (!options.getBooleanValue(Constants.Options.RETURN_GENERATED_KEYS)) {
+                client.addNativeData(Constants.NativeData.GENERATED_KEYS_DISABLED, Boolean.TRUE);
+            }
+            registerPoolMBeans = options.getBooleanValue(Constants.Options.REGISTER_POOL_MBEANS);
         }
-        StringBuilder url = new StringBuilder(Constants.DRIVER);
-        url.append("(DESCRIPTION=(ADDRESS=");
-        url.append("(PROTOCOL=").append(protocol).append(")");
-        url.append("(PORT=").append(port).append(")");
-        url.append("(HOST=").append(host).append(")");
-        url.append(")");
-        url.append("(CONNECT_DATA=(SERVICE_NAME=").append(database).append("))");
-        url.append(")");
+        List<String> hosts = new ArrayList<>();
+        List<Integer> ports = new ArrayList<>();
+        if (hostVal instanceof BArray) {
+            BArray addresses = (BArray) hostVal;
+            if (addresses.size() == 0) {
+                return ErrorGenerator.getSQLApplicationError("At least one address should be provided as the host.");
+            }
+            for (int i = 0; i < addresses.size(); i++) {
+                BMap<BString, Object> address = (BMap<BString, Object>) addresses.get(i);
+                hosts.add(address.getStringValue(Constants.Address.HOST).getValue());
+                Long addressPort = (Long) address.get(Constants.Address.PORT);
+                ports.add(addressPort == null ? port : addressPort.intValue());
+            }
+        } else {
+            hosts.add(((BString) hostVal).getValue());
+            ports.add(port);
+        }
+        BMap<BString, Object> connectDescriptor = options == null ? null :
+                (BMap<BString, Object>) options.getMapValue(Constants.Options.CONNECT_DESCRIPTOR);
+        String url = Constants.DRIVER + Utils.createConnectDescriptor(hosts, ports, protocol, database,
+                connectDescriptor);
         BMap connectionPool = clientConfig.getMapValue(Constants.ClientConfiguration.CONNECTION_POOL_OPTIONS);
+        // The name is used only if a new pool is created for the client, otherwise the name of the shared pool is
+        // resolved once the client is created
+        String poolName = Constants.PoolStats.POOL_NAME_PREFIX + POOL_SEQUENCE.incrementAndGet();
+        if (poolProperties == null) {
+            poolProperties = new Properties();
+        }
+        poolProperties.put(Constants.Pool.POOL_NAME, poolName);
+        if (registerPoolMBeans) {
+            poolProperties.put(Constants.Pool.REGISTER_MBEANS, true);
+        }
         Map<String, String> metricsTags = new HashMap<>();
-        metricsTags.put(ObservabilityUtils.TAG_DB_HOST, host);
-        metricsTags.put(ObservabilityUtils.TAG_DB_PORT, String.valueOf(port));
+        metricsTags.put(ObservabilityUtils.TAG_DB_HOST, String.join(",", hosts));
+        metricsTags.put(ObservabilityUtils.TAG_DB_PORT, ports.stream().map(String::valueOf)
+                .collect(Collectors.joining(",")));
         if (database != null && !database.isEmpty()) {
             metricsTags.put(ObservabilityUtils.TAG_DB_NAME, database);
         }
+        OracleDBMetrics metrics = new OracleDBMetrics(metricsTags);
+        client.addNativeData(Constants.NativeData.METRICS, metrics);
+        ConnectionPoolMetrics poolMetrics = new ConnectionPoolMetrics(metrics);
+        poolProperties.put(Constants.Pool.METRICS_TRACKER_FACTORY, poolMetrics);
+        client.addNativeData(Constants.NativeData.STATEMENT_PARAMETER_PROCESSOR,
+                OracleDBStatementParameterProcessor.getInstance(
+                        statementCacheSize > 0 ? new StatementCacheMetrics(metrics) : null,
+                        new TypeDescriptorCache(metrics)));
+        if (resultCacheConfig != null) {
+            long capacity = Utils.getPositiveIntValue(
+                    resultCacheConfig.get(Constants.ResultCacheConfig.CAPACITY));
+            BDecimal timeToLive = (BDecimal) resultCacheConfig.get(Constants.ResultCacheConfig.TIME_TO_LIVE);
+            if (capacity <= 0 || timeToLive.decimalValue().signum() <= 0) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "Result cache capacity and time to live should be greater than zero.");
+            }
+            long timeToLiveNanos = timeToLive.decimalValue().movePointRight(9).longValue();
+            client.addNativeData(Constants.NativeData.RESULT_CACHE,
+                    new QueryResultCache((int) capacity, timeToLiveNanos, metrics));
+        }
         SQLDatasource.SQLDatasourceParams sqlDatasourceParams = new SQLDatasource.SQLDatasourceParams()
-                .setUrl(url.toString())
+                .setUrl(url)
                 .setUser(user)
                 .setPassword(password)
                 .setDatasourceName(dataSourceName)
@@ -97,11 +187,123 @@ public class ClientProcessor {
                 .setConnectionPool(connectionPool, globalConnPool)
                 .setPoolProperties(poolProperties)
                 .setMetricsTags(metricsTags);
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams, true, true);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams,
+                true, true);
+        if (result != null) {
+            return result;
+        }
+        Object poolMetricsResult = registerPoolMetrics(client, poolMetrics);
+        if (poolMetricsResult != null) {
+            io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+            return poolMetricsResult;
+        }
+        if (warmUpConfig == null) {
+            return null;
+        }
+        Object warmUpResult = ConnectionPoolWarmUp.warmUp(client, warmUpConfig,
+                connectionPool != null ? connectionPool : globalConnPool, metrics);
+        if (warmUpResult != null) {
+            io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        }
+        return warmUpResult;
+    }
+
+    private static Object registerPoolMetrics(BObject client, ConnectionPoolMetrics poolMetrics) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        ConnectionPoolMetrics registeredPoolMetrics;
+        synchronized (POOL_METRICS) {
+            registeredPoolMetrics = POOL_METRICS.get(datasource);
+            // The metrics of the client are used by the pool only if the pool is created for the client
+            if (registeredPoolMetrics == null && poolMetrics.getPoolStats() != null) {
+                registeredPoolMetrics = poolMetrics;
+                POOL_METRICS.put((SQLDatasource) datasource, poolMetrics);
+            }
+        }
+        if (registeredPoolMetrics == null) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "The metrics tracker of the connection pool of the client is not registered with the pool.");
+        }
+        client.addNativeData(Constants.NativeData.POOL_METRICS, registeredPoolMetrics);
+        return null;
+    }
+
+    /**
+     * Set the client to which the queries outside transactions are routed.
+     * @param client ballerina client instance
+     * @param readReplica ballerina client instance of the read replica
+     */
+    public static void setReadReplica(BObject client, BObject readReplica) {
+        OracleDBMetrics replicaMetrics = (OracleDBMetrics) readReplica.getNativeData(Constants.NativeData.METRICS);
+        client.addNativeData(Constants.NativeData.READ_REPLICA, readReplica);
+        client.addNativeData(Constants.NativeData.READ_REPLICA_QUERIES, replicaMetrics.counter(
+                Constants.Metrics.READ_REPLICA_QUERIES, "Number of queries offloaded to the read replica"));
+    }
+
+    /**
+     * Return the state of the connection pool of the client. The state is read live from the MBean of the pool if the
+     * `registerPoolMBeans` option is set, and otherwise from the statistics of the pool, which are refreshed at most
+     * once a second.
+     * @param client ballerina client instance
+     * @return statistics of the connection pool or error
+     */
+    public static Object getPoolStats(BObject client) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        ConnectionPoolMetrics poolMetrics = (ConnectionPoolMetrics) client.getNativeData(
+                Constants.NativeData.POOL_METRICS);
+        PoolStats stats = poolMetrics == null ? null : poolMetrics.getPoolStats();
+        if (stats == null) {
+            return ErrorGenerator.getSQLApplicationError("Statistics of the connection pool are not available.");
+        }
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName pool = new ObjectName(
+                    String.format(Constants.PoolStats.POOL_OBJECT_NAME, poolMetrics.getPoolName()));
+            Map<String, Object> poolStats = new HashMap<>();
+            if (mBeanServer.isRegistered(pool)) {
+                poolStats.put(Constants.PoolStats.ACTIVE_CONNECTIONS,
+                        getPoolAttribute(mBeanServer, pool, "ActiveConnections"));
+                poolStats.put(Constants.PoolStats.IDLE_CONNECTIONS,
+                        getPoolAttribute(mBeanServer, pool, "IdleConnections"));
+                poolStats.put(Constants.PoolStats.TOTAL_CONNECTIONS,
+                        getPoolAttribute(mBeanServer, pool, "TotalConnections"));
+                poolStats.put(Constants.PoolStats.THREADS_AWAITING_CONNECTION,
+                        getPoolAttribute(mBeanServer, pool, "ThreadsAwaitingConnection"));
+            } else {
+                poolStats.put(Constants.PoolStats.ACTIVE_CONNECTIONS, (long) stats.getActiveConnections());
+                poolStats.put(Constants.PoolStats.IDLE_CONNECTIONS, (long) stats.getIdleConnections());
+                poolStats.put(Constants.PoolStats.TOTAL_CONNECTIONS, (long) stats.getTotalConnections());
+                poolStats.put(Constants.PoolStats.THREADS_AWAITING_CONNECTION, (long) stats.getPendingThreads());
+            }
+            poolStats.put(Constants.PoolStats.MAX_OPEN_CONNECTIONS, (long) stats.getMaxConnections());
+            poolStats.put(Constants.PoolStats.MIN_IDLE_CONNECTIONS, (long) stats.getMinConnections());
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.PoolStats.RECORD, poolStats);
+        } catch (JMException e) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "Error while reading the statistics of the connection pool: " + e.getMessage());
+        }
+    }
+
+    private static long getPoolAttribute(MBeanServer mBeanServer, ObjectName objectName, String attribute)
+            throws JMException {
+        return ((Number) mBeanServer.getAttribute(objectName, attribute)).longValue();
     }
 
     public static Object close(BObject client) {
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        Object readReplica = client.getNativeData(Constants.NativeData.READ_REPLICA);
+        if (readReplica instanceof BObject) {
+            Object replicaResult = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close((BObject) readReplica);
+            if (result == null) {
+                result = replicaResult;
+            }
+        }
+        return result;
     }
 
 }
@@ -19,10 +19,41 @@
 package io.ballerina.stdlib.oracledb.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
-import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ColumnBinder;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * This class contains methods for executing SQL queries.
@@ -31,6 +62,10 @@ import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProce
  */
 public class ExecuteProcessor {
 
+    private static final BString BATCH_AFFECTED_ROW_COUNT =
+            StringUtils.fromString(Constants.BatchExecutionResult.AFFECTED_ROW_COUNT);
+    private static final BString BATCH_FAILURES = StringUtils.fromString(Constants.BatchExecutionResult.FAILURES);
+
     private ExecuteProcessor() {}
 
     /**
@@ -40,12 +75,177 @@ public class ExecuteProcessor {
      * @return execution result or error
      */
     public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client);
+        if (Utils.isAsyncExecutionEnabled(client)) {
+            return AsyncProcessor.execute(env, client, paramSQLString, statementParametersProcessor);
+        }
+        if (!Utils.isGeneratedKeyRetrievalEnabled(client)) {
+            TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+            boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+            return env.yieldAndRun(() -> executeWithoutGeneratedKeys(client, paramSQLString,
+                    statementParametersProcessor, isWithinTrxBlock, trxResourceManager));
+        }
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
                 statementParametersProcessor);
     }
 
+    private static Object executeWithoutGeneratedKeys(BObject client, BObject paramSQLString,
+                                                      DefaultStatementParameterProcessor statementParametersProcessor,
+                                                      boolean isWithinTrxBlock,
+                                                      TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            // The statement is not prepared to return the ROWID of an inserted row, which the driver otherwise
+            // appends to every INSERT statement
+            statement = connection.prepareStatement(sqlQuery);
+            statementParametersProcessor.setParams(connection, statement, paramSQLString);
+            long affectedRowCount = statement.executeLargeUpdate();
+            Map<String, Object> executionResult = new HashMap<>();
+            executionResult.put(Constants.ExecutionResult.AFFECTED_ROW_COUNT, affectedRowCount);
+            executionResult.put(Constants.ExecutionResult.LAST_INSERT_ID, null);
+            return ValueCreator.createRecordValue(io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(),
+                    Constants.ExecutionResult.RECORD, executionResult);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+        }
+    }
+
+    /**
+     * Execute an INSERT, UPDATE or DELETE statement and return the values of the given columns of the affected rows,
+     * which are read in the same round trip through the RETURNING clause added by the driver.
+     * @param client client object
+     * @param paramSQLString SQL string of the statement
+     * @param columns names of the columns to be returned
+     * @param rowType type description of the returned record
+     * @return returned records or error
+     */
+    public static Object nativeExecuteReturning(Environment env, BObject client, BObject paramSQLString,
+                                                BArray columns, BTypedesc rowType) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> executeReturning(client, new BObject[]{paramSQLString}, columns, rowType,
+                isWithinTrxBlock, trxResourceManager));
+    }
+
+    /**
+     * Execute a batch of INSERT, UPDATE or DELETE statements and return the values of the given columns of the
+     * affected rows in the order of the batch. The batch is executed in a single round trip.
+     * @param client client object
+     * @param paramSQLStrings array of SQL string for the statements
+     * @param columns names of the columns to be returned
+     * @param rowType type description of the returned record
+     * @return returned records or error
+     */
+    public static Object nativeBatchExecuteReturning(Environment env, BObject client, BArray paramSQLStrings,
+                                                     BArray columns, BTypedesc rowType) {
+        if (paramSQLStrings.size() == 0) {
+            return ErrorGenerator.getSQLApplicationError("Parameter 'sqlQueries' cannot be an empty array");
+        }
+        BObject[] statements = new BObject[paramSQLStrings.size()];
+        for (int i = 0; i < statements.length; i++) {
+            statements[i] = (BObject) paramSQLStrings.get(i);
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> executeReturning(client, statements, columns, rowType, isWithinTrxBlock,
+                trxResourceManager));
+    }
+
+    private static Object executeReturning(BObject client, BObject[] paramSQLStrings, BArray columns,
+                                           BTypedesc rowType, boolean isWithinTrxBlock,
+                                           TransactionResourceManager trxResourceManager) {
+        String[] columnNames = columns.getStringArray();
+        if (columnNames.length == 0) {
+            return ErrorGenerator.getSQLApplicationError("At least one column should be given to be returned.");
+        }
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        boolean isBatch = paramSQLStrings.length > 1;
+        DefaultStatementParameterProcessor statementParametersProcessor = isBatch ?
+                Utils.getStatementParameterProcessor(client).forBatch() :
+                Utils.getStatementParameterProcessor(client);
+        RecordType recordType = (RecordType) TypeUtils.getImpliedType(rowType.getDescribingType());
+        BArray returnedRows = ValueCreator.createArrayValue(TypeCreator.createArrayType(rowType.getDescribingType()));
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLStrings[0]);
+            if (!isReturningStatement(sqlQuery)) {
+                return ErrorGenerator.getSQLApplicationError(String.format("Columns can be returned only from " +
+                        "INSERT, UPDATE or DELETE statements, while the query is '%s'.", sqlQuery));
+            }
+            for (int i = 1; i < paramSQLStrings.length; i++) {
+                String statementQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLStrings[i]);
+                if (!sqlQuery.equals(statementQuery)) {
+                    return ErrorGenerator.getSQLApplicationError(String.format("Batch execute cannot contain " +
+                            "different SQL commands. Query %d is '%s' while the batch is '%s'.", i,
+                            statementQuery, sqlQuery));
+                }
+            }
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery, columnNames);
+            if (isBatch) {
+                for (BObject paramSQLString : paramSQLStrings) {
+                    statementParametersProcessor.setParams(connection, statement, paramSQLString);
+                    statement.addBatch();
+                }
+                // The returned columns of all the statements of the batch are read from a single result set
+                statement.executeLargeBatch();
+            } else {
+                statementParametersProcessor.setParams(connection, statement, paramSQLStrings[0]);
+                statement.executeUpdate();
+            }
+            resultSet = statement.getGeneratedKeys();
+            List<ColumnDefinition> columnDefinitions = io.ballerina.stdlib.sql.utils.Utils
+                    .getColumnDefinitions(resultSet, recordType);
+            while (resultSet.next()) {
+                BMap<BString, Object> returnedRow = io.ballerina.stdlib.sql.utils.Utils.createBallerinaRecord(
+                        recordType, OracleDBResultParameterProcessor.getInstance(), resultSet, columnDefinitions);
+                if (recordType.isReadOnly()) {
+                    returnedRow.freezeDirect();
+                }
+                returnedRows.append(returnedRow);
+            }
+            return returnedRows;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (ApplicationError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (BError e) {
+            return e;
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+        }
+    }
+
+    private static boolean isReturningStatement(String sqlQuery) {
+        String statement = sqlQuery.stripLeading().toUpperCase(Locale.ENGLISH);
+        return statement.startsWith("INSERT") || statement.startsWith("UPDATE") || statement.startsWith("DELETE");
+    }
+
     /**
      * Execute a batch of SQL statements.
      * @param client client object
@@ -53,9 +253,240 @@ public class ExecuteProcessor {
      * @return execution result or error
      */
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client).forBatch();
         return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client, paramSQLStrings,
                 statementParametersProcessor);
     }
+
+    /**
+     * Execute a batch of SQL statements in chunks, where a failed statement does not stop the execution of the
+     * remaining statements.
+     * @param client client object
+     * @param paramSQLStrings array of SQL string for the execute statement
+     * @param chunkSize maximum number of statements sent to the database in a single round trip
+     * @return number of affected rows along with the failed statements or error
+     */
+    public static Object nativeBatchExecuteInChunks(Environment env, BObject client, BArray paramSQLStrings,
+                                                    long chunkSize) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> batchExecuteInChunks(client, paramSQLStrings, getChunkSize(chunkSize),
+                isWithinTrxBlock, trxResourceManager));
+    }
+
+    private static Object batchExecuteInChunks(BObject client, BArray paramSQLStrings, int chunkSize,
+                                               boolean isWithinTrxBlock,
+                                               TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client).forBatch();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        String sqlQuery = null;
+        try {
+            BMap<BString, Object> batchResult = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.BatchExecutionResult.RECORD);
+            BArray failures = ValueCreator.createArrayValue((ArrayType) TypeUtils.getReferredType(
+                    ((RecordType) batchResult.getType()).getFields().get(Constants.BatchExecutionResult.FAILURES)
+                            .getFieldType()));
+            int statementCount = paramSQLStrings.size();
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery((BObject) paramSQLStrings.get(0));
+            // The statements are validated before any chunk is executed, so that an invalid batch is not executed
+            // partially
+            for (int i = 1; i < statementCount; i++) {
+                String statementQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(
+                        (BObject) paramSQLStrings.get(i));
+                if (!sqlQuery.equals(statementQuery)) {
+                    return ErrorGenerator.getSQLApplicationError(String.format("Batch execute cannot contain " +
+                            "different SQL commands. Query %d is '%s' while the batch is '%s'.", i,
+                            statementQuery, sqlQuery));
+                }
+            }
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            long affectedRowCount = 0;
+            int chunkStart = 0;
+            while (chunkStart < statementCount) {
+                // Only a single chunk is bound at a time, hence the memory used by the driver does not grow with
+                // the size of the batch
+                int chunkEnd = Math.min(chunkStart + chunkSize, statementCount);
+                for (int i = chunkStart; i < chunkEnd; i++) {
+                    statementParametersProcessor.setParams(connection, statement, (BObject) paramSQLStrings.get(i));
+                    statement.addBatch();
+                }
+                try {
+                    affectedRowCount += getAffectedRowCount(statement.executeLargeBatch());
+                    chunkStart = chunkEnd;
+                } catch (BatchUpdateException e) {
+                    statement.clearBatch();
+                    long[] updateCounts = e.getLargeUpdateCounts();
+                    int failedOffset = getFailedOffset(updateCounts, chunkEnd - chunkStart);
+                    if (failedOffset == -1) {
+                        // The failed statement cannot be located, hence every statement of the chunk is reported
+                        for (int i = chunkStart; i < chunkEnd; i++) {
+                            failures.append(createBatchFailure(i, e));
+                        }
+                        chunkStart = chunkEnd;
+                        continue;
+                    }
+                    for (int i = 0; i < failedOffset; i++) {
+                        affectedRowCount += getUpdateCount(updateCounts[i]);
+                    }
+                    failures.append(createBatchFailure(chunkStart + failedOffset, e));
+                    // The statements following the failed statement are executed again in the next chunk
+                    chunkStart += failedOffset + 1;
+                }
+            }
+            batchResult.put(BATCH_AFFECTED_ROW_COUNT, affectedRowCount);
+            batchResult.put(BATCH_FAILURES, failures);
+            return batchResult;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing batch command: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+        }
+    }
+
+    private static int getFailedOffset(long[] updateCounts, int chunkLength) {
+        // The driver returns the update counts of the statements executed before the failure. If it instead returns
+        // a count for each statement of the chunk, the failed statement is the first one marked as failed. -1 is
+        // returned if no statement is marked as failed.
+        if (updateCounts == null) {
+            return 0;
+        }
+        if (updateCounts.length < chunkLength) {
+            return updateCounts.length;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static BMap<BString, Object> createBatchFailure(int index, SQLException e) {
+        Map<String, Object> failure = new HashMap<>();
+        failure.put(Constants.BatchExecutionResult.INDEX, (long) index);
+        failure.put(Constants.BatchExecutionResult.ERROR_CODE, (long) e.getErrorCode());
+        failure.put(Constants.BatchExecutionResult.SQL_STATE,
+                e.getSQLState() == null ? null : StringUtils.fromString(e.getSQLState()));
+        failure.put(Constants.BatchExecutionResult.MESSAGE,
+                StringUtils.fromString(e.getMessage() == null ? "" : e.getMessage().trim()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BatchExecutionResult.FAILURE_RECORD,
+                failure);
+    }
+
+    /**
+     * Execute an SQL statement once for every row of the given column values using array DML.
+     * @param client client object
+     * @param paramSQLString SQL string of the statement, where each insertion is an array of column values
+     * @param chunkSize maximum number of rows sent to the database in a single round trip
+     * @return number of affected rows or error
+     */
+    public static Object nativeBatchInsert(Environment env, BObject client, BObject paramSQLString, long chunkSize) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> batchInsert(client, paramSQLString, getChunkSize(chunkSize), isWithinTrxBlock,
+                trxResourceManager));
+    }
+
+    private static Object batchInsert(BObject client, BObject paramSQLString, int chunkSize,
+                                      boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        String sqlQuery = null;
+        long affectedRowCount = 0;
+        int row = 0;
+        try {
+            BArray insertions = paramSQLString.getArrayValue(
+                    io.ballerina.stdlib.sql.Constants.ParameterizedQueryFields.INSERTIONS);
+            int columnCount = insertions.size();
+            ColumnBinder.Binder[] binders = new ColumnBinder.Binder[columnCount];
+            int rowCount = -1;
+            for (int i = 0; i < columnCount; i++) {
+                Object column = insertions.get(i);
+                if (!(column instanceof BArray)) {
+                    return ErrorGenerator.getSQLApplicationError(String.format(
+                            "Insertion %d of the batch insert query is not an array of column values.", i + 1));
+                }
+                BArray columnValues = (BArray) column;
+                if (rowCount == -1) {
+                    rowCount = columnValues.size();
+                } else if (rowCount != columnValues.size()) {
+                    return ErrorGenerator.getSQLApplicationError(String.format("All column arrays of the batch " +
+                            "insert query should have the same length. Column %d has %d values while the previous " +
+                            "columns have %d values.", i + 1, columnValues.size(), rowCount));
+                }
+                binders[i] = ColumnBinder.forArray(columnValues, i + 1);
+            }
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            int batchedRows = 0;
+            for (; row < rowCount; row++) {
+                for (int i = 0; i < columnCount; i++) {
+                    binders[i].bind(statement, i + 1, row);
+                }
+                statement.addBatch();
+                if (++batchedRows == chunkSize) {
+                    affectedRowCount += getAffectedRowCount(statement.executeLargeBatch());
+                    batchedRows = 0;
+                }
+            }
+            if (batchedRows > 0) {
+                affectedRowCount += getAffectedRowCount(statement.executeLargeBatch());
+            }
+            return affectedRowCount;
+        } catch (BatchUpdateException e) {
+            long[] updateCounts = e.getLargeUpdateCounts();
+            int failedRow = row - (row % chunkSize) + (updateCounts == null ? 0 : updateCounts.length);
+            return ErrorGenerator.getSQLDatabaseError(e, String.format("Error while executing batch insert query " +
+                    "at row %d: %s. %d rows were affected before the failure. ", failedRow, sqlQuery,
+                    affectedRowCount + getAffectedRowCount(updateCounts)));
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing batch insert query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+        }
+    }
+
+    private static int getChunkSize(long chunkSize) {
+        // A chunk cannot hold more statements than the int range, hence a larger chunk size covers the whole batch
+        return (int) Math.min(chunkSize, Integer.MAX_VALUE);
+    }
+
+    private static long getAffectedRowCount(long[] updateCounts) {
+        long affectedRowCount = 0;
+        if (updateCounts != null) {
+            for (long updateCount : updateCounts) {
+                affectedRowCount += getUpdateCount(updateCount);
+            }
+        }
+        return affectedRowCount;
+    }
+
+    private static long getUpdateCount(long updateCount) {
+        // A statement that succeeded without reporting its count is counted as a single affected row
+        if (updateCount == Statement.SUCCESS_NO_INFO) {
+            return 1;
+        }
+        return Math.max(updateCount, 0);
+    }
 }
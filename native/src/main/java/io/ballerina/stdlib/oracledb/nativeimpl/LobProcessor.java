@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.LobStreamReader;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OracleBfile;
+import oracle.jdbc.OracleResultSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This class provides the methods to query a single BLOB, CLOB or BFILE value and read it as a stream of chunks, so
+ * that the value is never fully loaded into memory.
+ *
+ * @since 1.17.0
+ */
+public class LobProcessor {
+
+    private static final Type BYTE_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
+    private static final String SELECT_BFILE = "SELECT BFILENAME(?, ?) FROM DUAL";
+    private static final long BFILE_TRANSFER_SIZE = 1024 * 1024;
+    private static final BString BFILE_DIRECTORY = StringUtils.fromString(Constants.Types.BFile.DIRECTORY);
+    private static final BString BFILE_FILE_NAME = StringUtils.fromString(Constants.Types.BFile.FILE_NAME);
+
+    private LobProcessor() {}
+
+    /**
+     * Query the database and return the BLOB in the first column of the first row as a stream of byte chunks.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @return stream of `byte[]` chunks
+     */
+    public static BStream queryBlob(Environment env, BObject client, BObject paramSQLString) {
+        return query(env, client, paramSQLString, true);
+    }
+
+    /**
+     * Query the database and return the CLOB in the first column of the first row as a stream of string chunks.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @return stream of `string` chunks
+     */
+    public static BStream queryClob(Environment env, BObject client, BObject paramSQLString) {
+        return query(env, client, paramSQLString, false);
+    }
+
+    /**
+     * Return the next chunk of a BLOB stream.
+     * @param lobIterator iterator of the BLOB stream
+     * @return `byte[]` chunk, an error or nil if the BLOB is fully read
+     */
+    public static Object nextBlobChunk(Environment env, BObject lobIterator) {
+        LobStreamReader reader = (LobStreamReader) lobIterator.getNativeData(Constants.NativeData.LOB_STREAM_READER);
+        return env.yieldAndRun(reader::nextBytes);
+    }
+
+    /**
+     * Return the next chunk of a CLOB stream.
+     * @param lobIterator iterator of the CLOB stream
+     * @return `string` chunk, an error or nil if the CLOB is fully read
+     */
+    public static Object nextClobChunk(Environment env, BObject lobIterator) {
+        LobStreamReader reader = (LobStreamReader) lobIterator.getNativeData(Constants.NativeData.LOB_STREAM_READER);
+        return env.yieldAndRun(reader::nextCharacters);
+    }
+
+    /**
+     * Close a BLOB or CLOB stream.
+     * @param lobIterator iterator of the stream
+     * @return nil
+     */
+    public static Object closeLobStream(Environment env, BObject lobIterator) {
+        LobStreamReader reader = (LobStreamReader) lobIterator.getNativeData(Constants.NativeData.LOB_STREAM_READER);
+        return env.yieldAndRun(() -> {
+            reader.close();
+            return null;
+        });
+    }
+
+    /**
+     * Read the content of the given BFILE as a stream of byte chunks.
+     * @param client client object
+     * @param bfile `BFile` record with the directory and the name of the file
+     * @param chunkSize size of the chunks in bytes
+     * @return stream of `byte[]` chunks
+     */
+    public static BStream readBFile(Environment env, BObject client, BMap<BString, Object> bfile, long chunkSize) {
+        BObject readClient = Utils.getReadClient(client);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        LobStreamReader reader = env.yieldAndRun(() -> {
+            Object result = selectBFile(readClient, bfile, isWithinTrxBlock, trxResourceManager,
+                    (bfileLocator, resourceCloser) -> LobStreamReader.forBfile(bfileLocator,
+                            (int) Math.min(chunkSize, Integer.MAX_VALUE), SELECT_BFILE, resourceCloser));
+            return result instanceof BError ? LobStreamReader.failed((BError) result) : (LobStreamReader) result;
+        });
+        BObject lobIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.BLOB_STREAM_ITERATOR_OBJECT);
+        lobIterator.addNativeData(Constants.NativeData.LOB_STREAM_READER, reader);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(BYTE_ARRAY_TYPE,
+                PredefinedTypes.TYPE_NULL), lobIterator);
+    }
+
+    /**
+     * Copy the content of the given BFILE to a local file. The content is transferred from the driver to the file
+     * channel without being copied into Ballerina values.
+     * @param client client object
+     * @param bfile `BFile` record with the directory and the name of the file
+     * @param path path of the local file, which is created or overwritten
+     * @return number of bytes written or error
+     */
+    public static Object readBFileToFile(Environment env, BObject client, BMap<BString, Object> bfile,
+                                         BString path) {
+        BObject readClient = Utils.getReadClient(client);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> selectBFile(readClient, bfile, isWithinTrxBlock, trxResourceManager,
+                (bfileLocator, resourceCloser) -> {
+                    try {
+                        return transferToFile(bfileLocator, Path.of(path.getValue()));
+                    } finally {
+                        resourceCloser.run();
+                    }
+                }));
+    }
+
+    private static long transferToFile(OracleBfile bfile, Path path) throws SQLException, IOException {
+        if (bfile == null) {
+            throw new SQLException("The BFILE is null.");
+        }
+        bfile.openFile();
+        try (InputStream content = bfile.getBinaryStream();
+             ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel target = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = target.transferFrom(source, position, BFILE_TRANSFER_SIZE)) > 0) {
+                position += transferred;
+            }
+            return position;
+        } finally {
+            bfile.closeFile();
+        }
+    }
+
+    private static Object selectBFile(BObject client, BMap<BString, Object> bfile, boolean isWithinTrxBlock,
+                                      TransactionResourceManager trxResourceManager, BFileHandler handler) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        boolean isHandedOver = false;
+        try {
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(SELECT_BFILE);
+            statement.setString(1, bfile.getStringValue(BFILE_DIRECTORY).getValue());
+            statement.setString(2, bfile.getStringValue(BFILE_FILE_NAME).getValue());
+            resultSet = statement.executeQuery();
+            resultSet.next();
+            OracleBfile bfileLocator = resultSet.unwrap(OracleResultSet.class).getBFILE(1);
+            ResultSet bfileResultSet = resultSet;
+            PreparedStatement bfileStatement = statement;
+            Connection bfileConnection = connection;
+            Object result = handler.handle(bfileLocator, () -> Utils.closeResources(isWithinTrxBlock,
+                    bfileResultSet, bfileStatement, bfileConnection));
+            isHandedOver = true;
+            return result;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e, String.format("Error while reading the BFILE '%s' in " +
+                    "directory '%s'. ", bfile.get(BFILE_FILE_NAME), bfile.get(BFILE_DIRECTORY)));
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Error while writing the BFILE '%s' in " +
+                    "directory '%s' to the file. %s", bfile.get(BFILE_FILE_NAME), bfile.get(BFILE_DIRECTORY),
+                    e.getMessage()));
+        } finally {
+            if (!isHandedOver) {
+                Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            }
+        }
+    }
+
+    /**
+     * Handles the BFILE selected by `selectBFile`, and runs the given resource closer once the BFILE is read.
+     */
+    @FunctionalInterface
+    private interface BFileHandler {
+        Object handle(OracleBfile bfile, Runnable resourceCloser) throws SQLException, IOException;
+    }
+
+    private static BStream query(Environment env, BObject client, BObject paramSQLString, boolean isBlob) {
+        BObject readClient = Utils.getReadClient(client);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        LobStreamReader reader = env.yieldAndRun(() -> query(readClient, paramSQLString, isBlob, isWithinTrxBlock,
+                trxResourceManager));
+        BObject lobIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                isBlob ? Constants.BLOB_STREAM_ITERATOR_OBJECT : Constants.CLOB_STREAM_ITERATOR_OBJECT);
+        lobIterator.addNativeData(Constants.NativeData.LOB_STREAM_READER, reader);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(
+                isBlob ? BYTE_ARRAY_TYPE : PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_NULL), lobIterator);
+    }
+
+    private static LobStreamReader query(BObject client, BObject paramSQLString, boolean isBlob,
+                                         boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return LobStreamReader.failed((BError) datasource);
+        }
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            statementParametersProcessor.setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+                return LobStreamReader.failed(ErrorCreator.createError(
+                        io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(), Constants.NO_ROWS_ERROR,
+                        StringUtils.fromString("Query did not retrieve any rows."), null, null));
+            }
+            ResultSet lobResultSet = resultSet;
+            PreparedStatement lobStatement = statement;
+            Connection lobConnection = connection;
+            Runnable resourceCloser = () -> Utils.closeResources(isWithinTrxBlock, lobResultSet, lobStatement,
+                    lobConnection);
+            return isBlob ? LobStreamReader.forBlob(resultSet.getBlob(1), sqlQuery, resourceCloser) :
+                    LobStreamReader.forClob(resultSet.getClob(1), sqlQuery, resourceCloser);
+        } catch (SQLException e) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            return LobStreamReader.failed(ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } catch (DataError e) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            return LobStreamReader.failed(ErrorGenerator.getSQLApplicationError(e.getMessage()));
+        }
+    }
+}
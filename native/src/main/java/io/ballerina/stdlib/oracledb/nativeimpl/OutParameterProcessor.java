@@ -18,10 +18,23 @@
 
 package io.ballerina.stdlib.oracledb.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.RefCursorReader;
 
+import java.sql.ResultSet;
 
 /**
  * This class provides the implementation of processing InOut/Out parameters of procedure calls.
@@ -30,10 +43,56 @@ import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterPr
  */
 public class OutParameterProcessor {
 
+    private static final BString FETCH_SIZE = StringUtils.fromString("fetchSize");
+
     private OutParameterProcessor() {}
 
     public static Object getOutParameterValue(BObject result, BTypedesc typeDesc) {
         return io.ballerina.stdlib.sql.nativeimpl.OutParameterProcessor
                 .get(result, typeDesc, OracleDBResultParameterProcessor.getInstance(), "OutParameter");
     }
+
+    /**
+     * Return the rows of a REF CURSOR out parameter as a stream, which fetches the rows from the cursor as it is
+     * consumed.
+     * @param result `RefCursorOutParameter` object
+     * @param rowType type description of the result record
+     * @return result stream
+     */
+    public static BStream getRefCursorValue(BObject result, BTypedesc rowType) {
+        Object cursor = result.getNativeData(io.ballerina.stdlib.sql.Constants.ParameterObject.VALUE_NATIVE_DATA);
+        RecordType recordType = (RecordType) TypeUtils.getImpliedType(rowType.getDescribingType());
+        RefCursorReader reader = RefCursorReader.create((ResultSet) cursor, recordType,
+                result.getIntValue(FETCH_SIZE));
+        BObject cursorIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.REF_CURSOR_ITERATOR_OBJECT);
+        cursorIterator.addNativeData(Constants.NativeData.REF_CURSOR_READER, reader);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(rowType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), cursorIterator);
+    }
+
+    /**
+     * Return the next row of a REF CURSOR stream.
+     * @param cursorIterator iterator of the REF CURSOR stream
+     * @return next record, an error or nil if all the rows are read
+     */
+    public static Object nextRefCursorRow(Environment env, BObject cursorIterator) {
+        RefCursorReader reader = (RefCursorReader) cursorIterator
+                .getNativeData(Constants.NativeData.REF_CURSOR_READER);
+        return env.yieldAndRun(reader::next);
+    }
+
+    /**
+     * Close the REF CURSOR of a stream.
+     * @param cursorIterator iterator of the REF CURSOR stream
+     * @return nil
+     */
+    public static Object closeRefCursor(Environment env, BObject cursorIterator) {
+        RefCursorReader reader = (RefCursorReader) cursorIterator
+                .getNativeData(Constants.NativeData.REF_CURSOR_READER);
+        return env.yieldAndRun(() -> {
+            reader.close();
+            return null;
+        });
+    }
 }
@@ -19,13 +19,42 @@
 package io.ballerina.stdlib.oracledb.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.cache.QueryResultCache;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
-import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ExportChunkReader;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.ResultExporter;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static io.ballerina.stdlib.sql.utils.Utils.getSqlQuery;
 
 /**
  * This class provides the methods for query processing which executes sql queries.
@@ -37,27 +66,266 @@ public class QueryProcessor {
 
     /**
      * Query the database and return results.
-     * @param client client object
+     * @param primaryClient client object, of which the read replica is queried if there is one
      * @param paramSQLString SQL string of the query
      * @param recordType type description of the result record
      * @return result stream or error
      */
-    public static BStream nativeQuery(Environment env, BObject client, BObject paramSQLString,
+    public static BStream nativeQuery(Environment env, BObject primaryClient, BObject paramSQLString,
                                       BTypedesc recordType) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
+        BObject client = Utils.getReadClient(primaryClient);
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client);
+        if (Utils.isAsyncExecutionEnabled(client)) {
+            BStream resultStream = AsyncProcessor.query(env, client, paramSQLString, recordType,
+                    statementParametersProcessor);
+            if (resultStream != null) {
+                return resultStream;
+            }
+        }
+        DefaultResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
+        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
+                statementParametersProcessor, resultParametersProcessor);
+    }
+
+    /**
+     * Query the database with the given per-query options and return results.
+     * @param primaryClient client object, of which the read replica is queried if there is one
+     * @param paramSQLString SQL string of the query
+     * @param queryOptions options to be applied to the query
+     * @param recordType type description of the result record
+     * @return result stream or error
+     */
+    public static BStream nativeQueryWithOptions(Environment env, BObject primaryClient, BObject paramSQLString,
+                                                 BMap<BString, Object> queryOptions, BTypedesc recordType) {
+        BObject client = Utils.getReadClient(primaryClient);
+        long fetchSize = Utils.getPositiveIntValue(queryOptions.get(Constants.QueryOptions.FETCH_SIZE));
+        BError fetchSizeError = Utils.validateFetchSize(fetchSize);
+        if (fetchSizeError != null) {
+            return AsyncProcessor.getErrorStream(recordType, fetchSizeError);
+        }
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client).withFetchSize((int) fetchSize);
+        if (Utils.isAsyncExecutionEnabled(client)) {
+            BStream resultStream = AsyncProcessor.query(env, client, paramSQLString, recordType,
+                    statementParametersProcessor);
+            if (resultStream != null) {
+                return resultStream;
+            }
+        }
         DefaultResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
         return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
                 statementParametersProcessor, resultParametersProcessor);
     }
 
+    /**
+     * Query the database and write the results to a local file as CSV or newline-delimited JSON. The rows are
+     * written from the result set through a buffered file channel without creating Ballerina records.
+     * @param primaryClient client object, of which the read replica is queried if there is one
+     * @param paramSQLString SQL string of the query
+     * @param path path of the local file, which is created or overwritten
+     * @param exportOptions format, fetch size and header options of the export
+     * @return number of rows written or error
+     */
+    public static Object exportQuery(Environment env, BObject primaryClient, BObject paramSQLString, BString path,
+                                     BMap<BString, Object> exportOptions) {
+        BObject client = Utils.getReadClient(primaryClient);
+        String format = exportOptions.getStringValue(Constants.ExportFormat.FORMAT).getValue();
+        boolean includeHeader = exportOptions.getBooleanValue(Constants.ExportFormat.INCLUDE_HEADER);
+        long fetchSize = Utils.getPositiveIntValue(exportOptions.get(Constants.ExportFormat.FETCH_SIZE));
+        BError fetchSizeError = Utils.validateFetchSize(fetchSize);
+        if (fetchSizeError != null) {
+            return fetchSizeError;
+        }
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client).withFetchSize((int) fetchSize);
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+        return env.yieldAndRun(() -> exportQuery(client, paramSQLString, Path.of(path.getValue()), format,
+                includeHeader, statementParametersProcessor, isWithinTrxBlock, trxResourceManager));
+    }
+
+    private static Object exportQuery(BObject client, BObject paramSQLString, Path path, String format,
+                                      boolean includeHeader, DefaultStatementParameterProcessor statementProcessor,
+                                      boolean isWithinTrxBlock, TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        FileChannel fileChannel = null;
+        boolean isExported = false;
+        try {
+            sqlQuery = getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            statementProcessor.setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            long rowCount;
+            try (Writer writer = new BufferedWriter(Channels.newWriter(fileChannel, StandardCharsets.UTF_8),
+                    Constants.ExportFormat.BUFFER_SIZE)) {
+                rowCount = ResultExporter.export(resultSet, writer, format, includeHeader);
+            }
+            isExported = true;
+            return rowCount;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while exporting the results of the query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Error while writing the results of the " +
+                    "query: %s to the file '%s'. %s", sqlQuery, path, e.getMessage()));
+        } finally {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            if (fileChannel != null && !isExported) {
+                deletePartialExport(fileChannel, path);
+            }
+        }
+    }
+
+    /**
+     * Query the database and return a reader of the results as chunks of CSV or newline-delimited JSON bytes, which
+     * are written to a byte channel by the `exportQueryToChannel` method.
+     * @param primaryClient client object, of which the read replica is queried if there is one
+     * @param paramSQLString SQL string of the query
+     * @param exportOptions format, fetch size and header options of the export
+     * @return iterator of the chunks
+     */
+    public static BObject openExport(Environment env, BObject primaryClient, BObject paramSQLString,
+                                     BMap<BString, Object> exportOptions) {
+        BObject client = Utils.getReadClient(primaryClient);
+        String format = exportOptions.getStringValue(Constants.ExportFormat.FORMAT).getValue();
+        boolean includeHeader = exportOptions.getBooleanValue(Constants.ExportFormat.INCLUDE_HEADER);
+        long fetchSize = Utils.getPositiveIntValue(exportOptions.get(Constants.ExportFormat.FETCH_SIZE));
+        BError fetchSizeError = Utils.validateFetchSize(fetchSize);
+        ExportChunkReader reader;
+        if (fetchSizeError != null) {
+            reader = ExportChunkReader.failed(fetchSizeError);
+        } else {
+            DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                    .getStatementParameterProcessor(client).withFetchSize((int) fetchSize);
+            TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+            boolean isWithinTrxBlock = trxResourceManager.isInTransaction();
+            reader = env.yieldAndRun(() -> openExport(client, paramSQLString, format, includeHeader,
+                    statementParametersProcessor, isWithinTrxBlock, trxResourceManager));
+        }
+        BObject exportIterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.EXPORT_CHUNK_ITERATOR_OBJECT);
+        exportIterator.addNativeData(Constants.NativeData.EXPORT_CHUNK_READER, reader);
+        return exportIterator;
+    }
+
+    /**
+     * Return the next chunk of an export to a byte channel.
+     * @param exportIterator iterator of the chunks
+     * @return `byte[]` chunk, an error or the number of rows exported if all the rows are read
+     */
+    public static Object nextExportChunk(Environment env, BObject exportIterator) {
+        ExportChunkReader reader = (ExportChunkReader) exportIterator.getNativeData(
+                Constants.NativeData.EXPORT_CHUNK_READER);
+        return env.yieldAndRun(reader::next);
+    }
+
+    /**
+     * Close an export to a byte channel, of which the remaining rows are not read.
+     * @param exportIterator iterator of the chunks
+     * @return nil
+     */
+    public static Object closeExport(Environment env, BObject exportIterator) {
+        ExportChunkReader reader = (ExportChunkReader) exportIterator.getNativeData(
+                Constants.NativeData.EXPORT_CHUNK_READER);
+        return env.yieldAndRun(() -> {
+            reader.close();
+            return null;
+        });
+    }
+
+    private static ExportChunkReader openExport(BObject client, BObject paramSQLString, String format,
+                                                boolean includeHeader,
+                                                DefaultStatementParameterProcessor statementProcessor,
+                                                boolean isWithinTrxBlock,
+                                                TransactionResourceManager trxResourceManager) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return ExportChunkReader.failed((BError) datasource);
+        }
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = getSqlQuery(paramSQLString);
+            connection = Utils.getConnection(client, (SQLDatasource) datasource, isWithinTrxBlock,
+                    trxResourceManager);
+            statement = connection.prepareStatement(sqlQuery);
+            statementProcessor.setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            ResultSet exportResultSet = resultSet;
+            PreparedStatement exportStatement = statement;
+            Connection exportConnection = connection;
+            return ExportChunkReader.forResultSet(resultSet, format, includeHeader, sqlQuery,
+                    () -> Utils.closeResources(isWithinTrxBlock, exportResultSet, exportStatement,
+                            exportConnection));
+        } catch (SQLException e) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            return ExportChunkReader.failed(ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while exporting the results of the query: %s. ", sqlQuery)));
+        } catch (DataError e) {
+            Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+            return ExportChunkReader.failed(ErrorGenerator.getSQLApplicationError(e.getMessage()));
+        }
+    }
+
+    private static void deletePartialExport(FileChannel fileChannel, Path path) {
+        try {
+            fileChannel.close();
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // The error of the export is returned instead
+        }
+    }
+
     public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+        QueryResultCache resultCache = (QueryResultCache) client.getNativeData(Constants.NativeData.RESULT_CACHE);
+        if (resultCache == null || TransactionResourceManager.getInstance().isInTransaction()) {
+            return queryRow(env, Utils.getReadClient(client), paramSQLString, recordType);
+        }
+        return resultCache.getOrLoad(paramSQLString, recordType, () ->
+                queryRow(env, Utils.getReadClient(client), paramSQLString, recordType));
+    }
+
+    private static Object queryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
+        DefaultStatementParameterProcessor statementParametersProcessor = Utils
+                .getStatementParameterProcessor(client);
         OracleDBResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString,
+                recordType, statementParametersProcessor, resultParametersProcessor);
+    }
+
+    /**
+     * Remove the cached results of the given query, or all the cached results if a query is not given.
+     * @param client client object
+     * @param paramSQLString SQL string of the query or nil
+     */
+    public static void invalidateResultCache(BObject client, Object paramSQLString) {
+        QueryResultCache resultCache = (QueryResultCache) client.getNativeData(Constants.NativeData.RESULT_CACHE);
+        if (resultCache == null) {
+            return;
+        }
+        if (paramSQLString instanceof BObject) {
+            resultCache.invalidate((BObject) paramSQLString);
+        } else {
+            resultCache.invalidateAll();
+        }
     }
 }
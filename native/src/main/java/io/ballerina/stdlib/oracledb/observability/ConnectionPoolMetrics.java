@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.observability;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.stdlib.oracledb.Constants;
+
+/**
+ * This class is the metrics tracker factory of the connection pool of a client, through which the pool reports the
+ * time taken to acquire and the time of use of its connections, along with the state of the pool, with the metric
+ * tags of the client. The factory is called only by the pool created for the client, hence the state of a pool
+ * shared between clients is tracked by the factory of the client that created the pool.
+ *
+ * @since 1.17.0
+ */
+public class ConnectionPoolMetrics implements MetricsTrackerFactory {
+
+    private final OracleDBMetrics metrics;
+    private volatile String poolName;
+    private volatile PoolStats poolStats;
+
+    public ConnectionPoolMetrics(OracleDBMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    /**
+     * Return the name of the pool.
+     * @return name of the pool or null if the pool is not created with this factory
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Return the state of the pool, which is refreshed by the pool at most once a second.
+     * @return state of the pool or null if the pool is not created with this factory
+     */
+    public PoolStats getPoolStats() {
+        return poolStats;
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        private final Gauge acquireTime = metrics.histogram(Constants.Metrics.POOL_CONNECTION_ACQUIRE_TIME,
+                "Time taken to acquire a connection from the pool");
+        private final Gauge usageTime = metrics.histogram(Constants.Metrics.POOL_CONNECTION_USAGE_TIME,
+                "Time for which a connection is used before it is returned to the pool");
+        private final Counter timeouts = metrics.counter(Constants.Metrics.POOL_CONNECTION_TIMEOUTS,
+                "Number of requests that timed out while waiting for a connection of the pool");
+        private final Gauge activeConnections = metrics.gauge(Constants.Metrics.POOL_ACTIVE_CONNECTIONS,
+                "Number of connections in use");
+        private final Gauge idleConnections = metrics.gauge(Constants.Metrics.POOL_IDLE_CONNECTIONS,
+                "Number of connections idling in the pool");
+        private final Gauge totalConnections = metrics.gauge(Constants.Metrics.POOL_TOTAL_CONNECTIONS,
+                "Total number of connections in the pool");
+        private final Gauge pendingRequests = metrics.gauge(Constants.Metrics.POOL_PENDING_REQUESTS,
+                "Number of requests waiting for a connection of the pool");
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            recordPoolState();
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            if (!OracleDBMetrics.isEnabled()) {
+                return;
+            }
+            acquireTime.setValue(elapsedAcquiredNanos / 1_000_000_000.0);
+            recordPoolState();
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            if (!OracleDBMetrics.isEnabled()) {
+                return;
+            }
+            usageTime.setValue(elapsedBorrowedMillis / 1_000.0);
+            recordPoolState();
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            if (!OracleDBMetrics.isEnabled()) {
+                return;
+            }
+            timeouts.increment();
+            recordPoolState();
+        }
+
+        private void recordPoolState() {
+            if (!OracleDBMetrics.isEnabled()) {
+                return;
+            }
+            // The state of the pool changes only when a connection is created, acquired or returned
+            activeConnections.setValue(poolStats.getActiveConnections());
+            idleConnections.setValue(poolStats.getIdleConnections());
+            totalConnections.setValue(poolStats.getTotalConnections());
+            pendingRequests.setValue(poolStats.getPendingThreads());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.observability;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class registers the OracleDB specific metrics of a client with the metric tags of the client.
+ *
+ * @since 1.17.0
+ */
+public class OracleDBMetrics {
+
+    private final Set<Tag> tags;
+
+    public OracleDBMetrics(Map<String, String> metricsTags) {
+        Set<Tag> tagSet = new HashSet<>();
+        for (Map.Entry<String, String> entry : metricsTags.entrySet()) {
+            tagSet.add(new Tag(entry.getKey(), entry.getValue()));
+        }
+        this.tags = tagSet;
+    }
+
+    /**
+     * Check whether metrics are enabled for the application.
+     * @return true if metrics are enabled
+     */
+    public static boolean isEnabled() {
+        return ObserveUtils.isMetricsEnabled();
+    }
+
+    /**
+     * Return the counter of the given name tagged with the client metric tags.
+     * @param name name of the metric
+     * @param description description of the metric
+     * @return counter
+     */
+    public Counter counter(String name, String description) {
+        return DefaultMetricRegistry.getInstance().counter(new MetricId(name, description, tags));
+    }
+
+    /**
+     * Return the gauge of the given name tagged with the client metric tags.
+     * @param name name of the metric
+     * @param description description of the metric
+     * @return gauge
+     */
+    public Gauge gauge(String name, String description) {
+        return DefaultMetricRegistry.getInstance().gauge(new MetricId(name, description, tags));
+    }
+
+    /**
+     * Return the gauge of the given name tagged with the client metric tags, which also summarizes the distribution
+     * of the values set on it.
+     * @param name name of the metric
+     * @param description description of the metric
+     * @return gauge
+     */
+    public Gauge histogram(String name, String description) {
+        return DefaultMetricRegistry.getInstance().gauge(new MetricId(name, description, tags),
+                StatisticConfig.DEFAULT);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.observability;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import oracle.jdbc.OracleConnection;
+import oracle.jdbc.OracleStatement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static io.ballerina.stdlib.sql.utils.Utils.getSqlQuery;
+
+/**
+ * This class tracks the hits, misses and evictions of the Oracle implicit statement cache of a client. Whether a
+ * statement was served from the cache is read from the creation state reported by the driver for the statement. As
+ * the driver does not report evictions, the statements of each physical connection are tracked in the same
+ * least-recently-used order as the cache of the driver, and a miss while the tracked statements fill the
+ * `statementCacheSize` of the connection is counted as an eviction. The count is an approximation, as the driver
+ * caches a statement only once it is closed.
+ *
+ * @since 1.17.0
+ */
+public class StatementCacheMetrics {
+
+    private final Map<OracleConnection, Map<String, Boolean>> cachedStatements = new WeakHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public StatementCacheMetrics(OracleDBMetrics metrics) {
+        this.hits = metrics.counter(Constants.Metrics.STATEMENT_CACHE_HITS,
+                "Number of statements served from the implicit statement cache");
+        this.misses = metrics.counter(Constants.Metrics.STATEMENT_CACHE_MISSES,
+                "Number of statements that were not found in the implicit statement cache");
+        this.evictions = metrics.counter(Constants.Metrics.STATEMENT_CACHE_EVICTIONS,
+                "Approximate number of statements evicted from the implicit statement cache");
+    }
+
+    /**
+     * Record the preparation of a statement.
+     * @param connection connection on which the statement is prepared
+     * @param statement prepared statement
+     * @param paramSQLString SQL string of the statement
+     * @throws SQLException if the connection or the statement is not a wrapper of an Oracle connection or statement
+     */
+    public void record(Connection connection, PreparedStatement statement, BObject paramSQLString)
+            throws SQLException {
+        if (!OracleDBMetrics.isEnabled()) {
+            return;
+        }
+        int creationState = statement.unwrap(OracleStatement.class).creationState();
+        if (creationState != OracleStatement.IMPLICIT && creationState != OracleStatement.NEW) {
+            return;
+        }
+        // The pooled connection unwraps to the physical connection, which holds the statement cache
+        OracleConnection physicalConnection = Utils.getOracleConnection(connection);
+        int cacheSize = physicalConnection.getStatementCacheSize();
+        String sqlQuery = getSqlQuery(paramSQLString);
+        boolean isEvicted = false;
+        synchronized (this) {
+            Map<String, Boolean> statements = cachedStatements.computeIfAbsent(physicalConnection,
+                    key -> new LinkedHashMap<>(16, 0.75f, true));
+            if (statements.put(sqlQuery, Boolean.TRUE) == null && statements.size() > cacheSize) {
+                String eldestQuery = statements.keySet().iterator().next();
+                statements.remove(eldestQuery);
+                isEvicted = creationState == OracleStatement.NEW;
+            }
+        }
+        if (creationState == OracleStatement.IMPLICIT) {
+            hits.increment();
+        } else {
+            misses.increment();
+            if (isEvicted) {
+                evictions.increment();
+            }
+        }
+    }
+}
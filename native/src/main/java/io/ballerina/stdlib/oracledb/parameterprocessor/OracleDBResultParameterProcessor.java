@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.types.StructureType;
@@ -36,7 +37,11 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.IndexTableUtils;
+import io.ballerina.stdlib.oracledb.utils.IntervalCodec;
 import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.OsonCodec;
+import io.ballerina.stdlib.oracledb.utils.VectorUtils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.FieldMismatchError;
 import io.ballerina.stdlib.sql.exception.TypeMismatchError;
@@ -44,8 +49,13 @@ import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
 import io.ballerina.stdlib.sql.utils.Utils;
+import oracle.jdbc.OracleArray;
+import oracle.jdbc.OracleBfile;
+import oracle.jdbc.OracleCallableStatement;
 import oracle.jdbc.OracleResultSet;
 import oracle.jdbc.OracleTypes;
+import oracle.sql.Datum;
+import oracle.sql.json.OracleJsonParser;
 
 import java.math.BigDecimal;
 import java.sql.Array;
@@ -57,6 +67,9 @@ import java.sql.SQLXML;
 import java.sql.Struct;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
@@ -72,6 +85,12 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
     private static final OracleDBResultParameterProcessor instance = new OracleDBResultParameterProcessor();
     private static final BObject iteratorObject = ValueCreator.createObjectValue(
             ModuleUtils.getModule(), Constants.CUSTOM_RESULT_ITERATOR_OBJECT);
+    private static final BString BFILE_DIRECTORY = fromString(Constants.Types.BFile.DIRECTORY);
+    private static final BString BFILE_FILE_NAME = fromString(Constants.Types.BFile.FILE_NAME);
+    private static final Map<StructTypeKey, StructConverterPlan> STRUCT_CONVERTER_PLANS = new ConcurrentHashMap<>();
+    private static final Set<String> NUMBER_ARRAY_TYPES = Set.of(
+            io.ballerina.stdlib.sql.Constants.ArrayTypes.INTEGER, io.ballerina.stdlib.sql.Constants.ArrayTypes.FLOAT,
+            Constants.Types.BallerinaArrayTypes.OPTIONAL_INT, Constants.Types.BallerinaArrayTypes.OPTIONAL_FLOAT);
 
     /**
      * Singleton static method that returns an instance of `OracleDBResultParameterProcessor`.
@@ -93,67 +112,70 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         if (structValue == null) {
             return null;
         }
-        Field[] internalStructFields = structType.getFields().values().toArray(new Field[0]);
-        BMap<BString, Object> struct = ValueCreator.createRecordValue(((RecordType) structType));
-        Object[] dataArray = structValue.getAttributes();
-        if (dataArray != null) {
-            if (dataArray.length != internalStructFields.length) {
-                throw new FieldMismatchError(structType.getName(), internalStructFields.length, dataArray.length);
+        return getStructConverterPlan(structType).convert(structValue);
+    }
+
+    private StructConverterPlan getStructConverterPlan(StructureType structType) {
+        StructTypeKey key = new StructTypeKey(structType);
+        StructConverterPlan plan = STRUCT_CONVERTER_PLANS.get(key);
+        if (plan == null) {
+            plan = createStructConverterPlan(structType);
+            StructConverterPlan existingPlan = STRUCT_CONVERTER_PLANS.putIfAbsent(key, plan);
+            if (existingPlan != null) {
+                plan = existingPlan;
             }
-            int index = 0;
-            for (Field internalField : internalStructFields) {
-                BString fieldName = fromString(internalField.getFieldName());
-                Object value = dataArray[index];
-                if (value == null) {
-                    struct.put(fieldName, null);
-                    ++index;
-                    continue;
-                }
-                int type = resolveNonNullTypeTag(internalField.getFieldType());
-                switch (type) {
-                    case TypeTags.INT_TAG:
-                        if (value instanceof BigDecimal) {
-                            struct.put(fieldName, ((BigDecimal) value).longValue());
-                        } else {
-                            struct.put(fieldName, value);
-                        }
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        if (value instanceof BigDecimal) {
-                            struct.put(fieldName, ((BigDecimal) value).doubleValue());
-                        } else {
-                            struct.put(fieldName, value);
-                        }
-                        break;
-                    case TypeTags.DECIMAL_TAG:
-                        if (value instanceof BigDecimal) {
-                            struct.put(fieldName, ValueCreator.createDecimalValue((BigDecimal) value));
-                        } else {
-                            struct.put(fieldName, value);
-                        }
-                        break;
-                    case TypeTags.STRING_TAG:
-                        struct.put(fieldName, StringUtils.fromString((String) value));
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        if (value instanceof BigDecimal) {
-                            struct.put(fieldName, ((BigDecimal) value).intValue() == 1);
-                        } else {
-                            struct.put(fieldName, ((int) value) == 1);
+        }
+        return plan;
+    }
+
+    private StructConverterPlan createStructConverterPlan(StructureType structType) {
+        Field[] internalStructFields = structType.getFields().values().toArray(new Field[0]);
+        BString[] fieldNames = new BString[internalStructFields.length];
+        FieldConverter[] converters = new FieldConverter[internalStructFields.length];
+        for (int i = 0; i < internalStructFields.length; i++) {
+            Field internalField = internalStructFields[i];
+            fieldNames[i] = fromString(internalField.getFieldName());
+            converters[i] = createFieldConverter(internalField, structType);
+        }
+        return new StructConverterPlan((RecordType) structType, fieldNames, converters);
+    }
+
+    private FieldConverter createFieldConverter(Field internalField, StructureType structType) {
+        Type fieldType = resolveNonNullType(internalField.getFieldType());
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+                return value -> value instanceof BigDecimal ? ((BigDecimal) value).longValue() : value;
+            case TypeTags.FLOAT_TAG:
+                return value -> value instanceof BigDecimal ? ((BigDecimal) value).doubleValue() : value;
+            case TypeTags.DECIMAL_TAG:
+                return value -> value instanceof BigDecimal ?
+                        ValueCreator.createDecimalValue((BigDecimal) value) : value;
+            case TypeTags.STRING_TAG:
+                return value -> StringUtils.fromString((String) value);
+            case TypeTags.BOOLEAN_TAG:
+                return value -> value instanceof BigDecimal ?
+                        ((BigDecimal) value).intValue() == 1 : ((int) value) == 1;
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                // The nested plan is resolved on first use so that self-referencing types do not recurse here.
+                StructureType nestedType = (StructureType) fieldType;
+                return new FieldConverter() {
+                    private StructConverterPlan nestedPlan;
+
+                    @Override
+                    public Object convert(Object value) throws DataError, SQLException {
+                        if (nestedPlan == null) {
+                            nestedPlan = getStructConverterPlan(nestedType);
                         }
-                        break;
-                    case TypeTags.OBJECT_TYPE_TAG:
-                    case TypeTags.RECORD_TYPE_TAG:
-                        struct.put(fieldName, createUserDefinedType((Struct) value,
-                                        (StructureType) resolveNonNullType(internalField.getFieldType())));
-                        break;
-                    default:
-                        createUserDefinedTypeSubtype(internalField, structType);
-                }
-                ++index;
-            }
+                        return nestedPlan.convert((Struct) value);
+                    }
+                };
+            default:
+                return value -> {
+                    createUserDefinedTypeSubtype(internalField, structType);
+                    return value;
+                };
         }
-        return struct;
     }
 
     private Type resolveNonNullType(Type fieldType) {
@@ -196,15 +218,88 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
             case OracleTypes.TIMESTAMPTZ:
             case OracleTypes.TIMESTAMPLTZ:
                 return processTimestampWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
+            case OracleTypes.BFILE:
+                return processBFileResult(resultSet, columnIndex, ballerinaType);
+            case OracleTypes.VECTOR:
+                return processVectorResult(resultSet, columnIndex, ballerinaType);
+            case OracleTypes.JSON:
+                return processJsonResult(resultSet, columnIndex, ballerinaType);
             default:
                 throw new UnsupportedTypeError(JDBCType.valueOf(sqlType).getName(), columnIndex);
         }
     }
 
+    private Object processBFileResult(ResultSet resultSet, int columnIndex, Type ballerinaType)
+            throws DataError, SQLException {
+        // Only the locator is read, hence the file is neither opened nor required to exist
+        OracleBfile bfile = resultSet.unwrap(OracleResultSet.class).getBFILE(columnIndex);
+        if (bfile == null) {
+            return null;
+        }
+        Type referredType = resolveNonNullType(ballerinaType);
+        if (referredType.getTag() != TypeTags.RECORD_TYPE_TAG ||
+                !referredType.getName().equals(Constants.Types.BFILE_RECORD)) {
+            throw new TypeMismatchError("BFILE", ballerinaType.getName(), new String[]{"oracle:BFile"});
+        }
+        BMap<BString, Object> bfileRecord = ValueCreator.createRecordValue((RecordType) referredType);
+        bfileRecord.put(BFILE_DIRECTORY, fromString(bfile.getDirAlias()));
+        bfileRecord.put(BFILE_FILE_NAME, fromString(bfile.getName()));
+        return bfileRecord;
+    }
+
+    private Object processVectorResult(ResultSet resultSet, int columnIndex, Type ballerinaType)
+            throws DataError, SQLException {
+        Type referredType = resolveNonNullType(ballerinaType);
+        if (referredType.getTag() == TypeTags.STRING_TAG) {
+            String vector = resultSet.getString(columnIndex);
+            return vector == null ? null : fromString(vector);
+        }
+        if (referredType.getTag() != TypeTags.ARRAY_TAG || TypeUtils.getReferredType(
+                ((ArrayType) referredType).getElementType()).getTag() != TypeTags.FLOAT_TAG) {
+            throw new TypeMismatchError("VECTOR", ballerinaType.getName(), new String[]{"float[]", "string"});
+        }
+        return VectorUtils.getVector(resultSet, columnIndex);
+    }
+
+    private static boolean isJsonMapType(Type type) {
+        if (type.getTag() != TypeTags.MAP_TAG) {
+            return false;
+        }
+        int constraintTag = TypeUtils.getReferredType(((MapType) type).getConstrainedType()).getTag();
+        return constraintTag == TypeTags.JSON_TAG || constraintTag == TypeTags.ANYDATA_TAG;
+    }
+
+    private Object processJsonResult(ResultSet resultSet, int columnIndex, Type ballerinaType)
+            throws DataError, SQLException {
+        Type referredType = resolveNonNullType(ballerinaType);
+        int tag = referredType.getTag();
+        if (tag == TypeTags.STRING_TAG) {
+            String json = resultSet.getString(columnIndex);
+            return json == null ? null : fromString(json);
+        }
+        if (tag != TypeTags.JSON_TAG && tag != TypeTags.ANYDATA_TAG && !isJsonMapType(referredType)) {
+            throw new TypeMismatchError("JSON", ballerinaType.getName(), new String[]{"json", "map<json>", "string"});
+        }
+        // The OSON image is walked directly instead of being serialized to text and parsed again
+        try (OracleJsonParser parser = resultSet.getObject(columnIndex, OracleJsonParser.class)) {
+            if (parser == null) {
+                return null;
+            }
+            Object json = OsonCodec.decode(parser);
+            if (tag == TypeTags.MAP_TAG && !(json instanceof BMap)) {
+                throw new TypeMismatchError("JSON", ballerinaType.getName(), new String[]{"json", "string"});
+            }
+            return json;
+        }
+    }
+
     @Override
     public BArray convertArray(Array array, int sqlType, Type type) throws SQLException, DataError {
         if (array != null) {
             Utils.validatedInvalidFieldAssignment(sqlType, type, "SQL Array");
+            if (isNumberCollection(array) && NUMBER_ARRAY_TYPES.contains(type.toString())) {
+                return convertNumberArray(array, type);
+            }
             Object[] dataArray = (Object[]) array.getArray();
             if (dataArray == null || dataArray.length == 0) {
                 return null;
@@ -217,6 +312,68 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         }
     }
 
+    private static boolean isNumberCollection(Array array) throws SQLException {
+        return switch (array.getBaseType()) {
+            case Types.NUMERIC, Types.DECIMAL, Types.INTEGER, Types.FLOAT, Types.DOUBLE, Types.REAL,
+                 OracleTypes.BINARY_FLOAT, OracleTypes.BINARY_DOUBLE -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Converts a VARRAY or nested table of numbers to an `int[]`, `float[]`, `int?[]` or `float?[]` without boxing
+     * the elements into the `Object[]` returned by {@link Array#getArray()}. An `int[]` or `float[]` is read in bulk
+     * by {@link OracleArray#getLongArray()} or {@link OracleArray#getDoubleArray()}, which read a null element as
+     * zero, hence null elements are detected on the raw elements of the collection beforehand. An `int?[]` or
+     * `float?[]` is streamed element by element from {@link Array#getResultSet()}.
+     */
+    private BArray convertNumberArray(Array array, Type type) throws SQLException, DataError {
+        OracleArray oracleArray = (OracleArray) array;
+        if (oracleArray.length() == 0) {
+            return null;
+        }
+        switch (type.toString()) {
+            case io.ballerina.stdlib.sql.Constants.ArrayTypes.INTEGER:
+                validateNoNullElements(array, type);
+                return ValueCreator.createArrayValue(oracleArray.getLongArray());
+            case io.ballerina.stdlib.sql.Constants.ArrayTypes.FLOAT:
+                validateNoNullElements(array, type);
+                return ValueCreator.createArrayValue(oracleArray.getDoubleArray());
+            case Constants.Types.BallerinaArrayTypes.OPTIONAL_INT:
+                return readNullableNumberArray(array, PredefinedTypes.TYPE_INT);
+            default:
+                return readNullableNumberArray(array, PredefinedTypes.TYPE_FLOAT);
+        }
+    }
+
+    private static void validateNoNullElements(Array array, Type type) throws SQLException, DataError {
+        // The raw elements are returned as they are received, without being converted to Java numbers
+        for (Datum element : ((oracle.jdbc.internal.OracleArray) array).getOracleArray()) {
+            if (element == null) {
+                throw nullElementError(type);
+            }
+        }
+    }
+
+    private static DataError nullElementError(Type type) {
+        return new TypeMismatchError(String.format("The SQL array contains a null element, which cannot be " +
+                "assigned to the type '%s'. Use the optional element type to retrieve arrays with null elements.",
+                type));
+    }
+
+    private BArray readNullableNumberArray(Array array, Type elementType) throws SQLException {
+        BArray typedArray = createEmptyBBRefValueArray(elementType);
+        boolean isInt = elementType.getTag() == TypeTags.INT_TAG;
+        try (ResultSet elements = array.getResultSet()) {
+            int index = 0;
+            while (elements.next()) {
+                Object element = isInt ? (Object) elements.getLong(2) : (Object) elements.getDouble(2);
+                typedArray.add(index++, elements.wasNull() ? null : element);
+            }
+        }
+        return typedArray;
+    }
+
     private BArray createAndPopulateVArrays(Object firstNonNullElement, Object[] dataArray, Type type, Array array,
                                             Boolean containsNull)
             throws DataError, SQLException {
@@ -248,9 +405,14 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         switch (sqlType) {
             case OracleTypes.INTERVALDS:
             case OracleTypes.INTERVALYM:
-                return processInterval(statement, paramIndex);
+                return processInterval(statement, paramIndex, sqlType);
             case Types.STRUCT:
                 return statement.getObject(paramIndex);
+            case OracleTypes.CURSOR:
+                // The cursor is read lazily by `RefCursorOutParameter.get`, hence only its result set is kept
+                return statement.getObject(paramIndex);
+            case OracleTypes.PLSQL_INDEX_TABLE:
+                return IndexTableUtils.getIndexTable(statement, paramIndex);
             default:
                 throw new UnsupportedTypeError(JDBCType.valueOf(sqlType).getName(), paramIndex);
         }
@@ -261,11 +423,13 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
             throws DataError {
         switch (outParamObjectName) {
             case Constants.Types.OutParameterTypes.INTERVAL_DAY_TO_SECOND:
-                return convertInterval((String) value, sqlType, ballerinaType, "INTERVALDS");
+                return convertInterval((Datum) value, sqlType, ballerinaType, "INTERVALDS");
             case Constants.Types.OutParameterTypes.INTERVAL_YEAR_TO_MONTH:
-                return convertInterval((String) value, sqlType, ballerinaType, "INTERVALYM");
+                return convertInterval((Datum) value, sqlType, ballerinaType, "INTERVALYM");
             case Constants.Types.OutParameterTypes.OBJECT:
                 return convertObjectOutParameter(value, ballerinaType);
+            case Constants.Types.OutParameterTypes.PLSQL_INDEX_TABLE:
+                return IndexTableUtils.convert(value, ballerinaType);
             default:
                 throw new UnsupportedTypeError(String.format(
                        "ParameterizedCallQuery consists of a parameter of unsupported type '%s'.", outParamObjectName));
@@ -325,69 +489,35 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         return null;
     }
 
-    private Object processInterval(CallableStatement statement, int paramIndex) throws SQLException {
-        return statement.getString(paramIndex);
+    private Object processInterval(CallableStatement statement, int paramIndex, int sqlType) throws SQLException {
+        OracleCallableStatement oracleStatement = statement.unwrap(OracleCallableStatement.class);
+        return sqlType == OracleTypes.INTERVALDS ?
+                oracleStatement.getINTERVALDS(paramIndex) : oracleStatement.getINTERVALYM(paramIndex);
     }
 
     private Object processIntervalResult(ResultSet resultSet, int columnIndex, int sqlType, Type ballerinaType,
                                          String sqlTypeName) throws DataError, SQLException {
-        String intervalString = resultSet.getString(columnIndex);
-        return convertInterval(intervalString, sqlType, ballerinaType, sqlTypeName);
+        OracleResultSet oracleResultSet = resultSet.unwrap(OracleResultSet.class);
+        Datum interval = sqlType == OracleTypes.INTERVALDS ?
+                oracleResultSet.getINTERVALDS(columnIndex) : oracleResultSet.getINTERVALYM(columnIndex);
+        return convertInterval(interval, sqlType, ballerinaType, sqlTypeName);
     }
 
-    private Object convertInterval(String interval, int sqlType, Type ballerinaType, String sqlTypeName)
+    private Object convertInterval(Datum interval, int sqlType, Type ballerinaType, String sqlTypeName)
             throws DataError {
         if (interval != null) {
             switch (ballerinaType.getTag()) {
                 case TypeTags.OBJECT_TYPE_TAG:
                 case TypeTags.RECORD_TYPE_TAG:
-                    boolean isNegative = interval.startsWith("-");
-                    if (isNegative) {
-                        interval = interval.substring(1);
-                    }
                     if (sqlType == OracleTypes.INTERVALDS) {
-                        //format: [-]DD HH:Min:SS.XXX
                         if (ballerinaType.getName().
                                 equalsIgnoreCase(Constants.Types.INTERVAL_DAY_TO_SECOND_RECORD)) {
-                            String[] splitOnSpaces = interval.split("\\s+");
-                            String days = splitOnSpaces[0];
-                            String[] splitOnColons = splitOnSpaces[1].split(":");
-                            int dayValue = Integer.parseInt(days);
-                            int hourValue = Integer.parseInt(splitOnColons[0]);
-                            int minuteValue = Integer.parseInt(splitOnColons[1]);
-                            BigDecimal seconds = new BigDecimal(splitOnColons[2]);
-                            BMap<BString, Object> intervalMap = ValueCreator
-                                    .createRecordValue(ModuleUtils.getModule(),
-                                            Constants.Types.INTERVAL_DAY_TO_SECOND_RECORD);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalDayToSecond.DAYS),
-                                    dayValue);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalDayToSecond.HOURS),
-                                    hourValue);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalDayToSecond.MINUTES),
-                                    minuteValue);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalDayToSecond.SECONDS),
-                                    ValueCreator.createDecimalValue(seconds));
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalDayToSecond.SIGN),
-                                    isNegative ? -1L  : 1L);
-                            return intervalMap;
+                            return IntervalCodec.decodeIntervalDayToSecond(interval.shareBytes());
                         }
                     } else {
-                        //format: [-]YY-MM
                         if (ballerinaType.getName().
                                 equalsIgnoreCase(Constants.Types.INTERVAL_YEAR_TO_MONTH_RECORD)) {
-                            String[] splitOnDash = interval.split("-");
-                            int yearValue = Integer.parseInt(splitOnDash[0]);
-                            int monthValue = Integer.parseInt(splitOnDash[1]);
-                            BMap<BString, Object> intervalMap = ValueCreator
-                                    .createRecordValue(ModuleUtils.getModule(),
-                                            Constants.Types.INTERVAL_YEAR_TO_MONTH_RECORD);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalYearToMonth.YEARS),
-                                    yearValue);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalYearToMonth.MONTHS),
-                                    monthValue);
-                            intervalMap.put(StringUtils.fromString(Constants.Types.IntervalYearToMonth.SIGN),
-                                    isNegative ? -1L : 1L);
-                            return intervalMap;
+                            return IntervalCodec.decodeIntervalYearToMonth(interval.shareBytes());
                         }
                     }
                     throw new TypeMismatchError(sqlTypeName, ballerinaType.getName(),
@@ -521,4 +651,58 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         Struct structData = resultSet.unwrap(OracleResultSet.class).getSTRUCT(columnIndex);
         return convertStruct(structData, sqlType, ballerinaType);
     }
+
+    /**
+     * Converts a single non-null attribute of an Oracle OBJECT into the value of its Ballerina field.
+     */
+    @FunctionalInterface
+    private interface FieldConverter {
+        Object convert(Object value) throws DataError, SQLException;
+    }
+
+    /**
+     * Field keys and converters of a Ballerina record type, resolved once and reused for every Oracle OBJECT
+     * mapped to that type.
+     */
+    private static final class StructConverterPlan {
+        private final RecordType recordType;
+        private final BString[] fieldNames;
+        private final FieldConverter[] converters;
+
+        private StructConverterPlan(RecordType recordType, BString[] fieldNames, FieldConverter[] converters) {
+            this.recordType = recordType;
+            this.fieldNames = fieldNames;
+            this.converters = converters;
+        }
+
+        private BMap<BString, Object> convert(Struct structValue) throws DataError, SQLException {
+            BMap<BString, Object> struct = ValueCreator.createRecordValue(recordType);
+            Object[] dataArray = structValue.getAttributes();
+            if (dataArray != null) {
+                if (dataArray.length != fieldNames.length) {
+                    throw new FieldMismatchError(recordType.getName(), fieldNames.length, dataArray.length);
+                }
+                for (int i = 0; i < dataArray.length; i++) {
+                    Object value = dataArray[i];
+                    struct.put(fieldNames[i], value == null ? null : converters[i].convert(value));
+                }
+            }
+            return struct;
+        }
+    }
+
+    /**
+     * Identity key for the plan cache, since distinct record types may share a name.
+     */
+    private record StructTypeKey(StructureType type) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof StructTypeKey && ((StructTypeKey) other).type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
 }
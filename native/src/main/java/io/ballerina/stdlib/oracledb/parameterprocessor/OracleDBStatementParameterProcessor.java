@@ -24,14 +24,25 @@ import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.cache.TypeDescriptorCache;
+import io.ballerina.stdlib.oracledb.observability.StatementCacheMetrics;
 import io.ballerina.stdlib.oracledb.utils.ConverterUtils;
+import io.ballerina.stdlib.oracledb.utils.IndexTableUtils;
+import io.ballerina.stdlib.oracledb.utils.IntervalCodec;
+import io.ballerina.stdlib.oracledb.utils.OsonCodec;
 import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.oracledb.utils.VectorUtils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleType;
 import oracle.jdbc.OracleTypes;
+import oracle.sql.INTERVALDS;
+import oracle.sql.INTERVALYM;
 
 import java.sql.Array;
 import java.sql.CallableStatement;
@@ -41,7 +52,6 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Struct;
 import java.sql.Types;
-import java.util.Locale;
 
 /**
  * This class overrides DefaultStatementParameterProcessor to implement methods required to convert ballerina types
@@ -50,7 +60,22 @@ import java.util.Locale;
  * @since 0.1.0
  */
 public class OracleDBStatementParameterProcessor extends DefaultStatementParameterProcessor {
-    private static final OracleDBStatementParameterProcessor instance = new OracleDBStatementParameterProcessor();
+    private static final OracleDBStatementParameterProcessor instance =
+            new OracleDBStatementParameterProcessor(0, null, null, false);
+
+    private final int fetchSize;
+    private final StatementCacheMetrics statementCacheMetrics;
+    private final TypeDescriptorCache typeDescriptorCache;
+    private final boolean isBatch;
+    private boolean isStatementRecorded;
+
+    private OracleDBStatementParameterProcessor(int fetchSize, StatementCacheMetrics statementCacheMetrics,
+                                                TypeDescriptorCache typeDescriptorCache, boolean isBatch) {
+        this.fetchSize = fetchSize;
+        this.statementCacheMetrics = statementCacheMetrics;
+        this.typeDescriptorCache = typeDescriptorCache;
+        this.isBatch = isBatch;
+    }
 
     /**
      * Singleton static method that returns an instance of `OracleDBStatementParameterProcessor`.
@@ -60,6 +85,58 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         return instance;
     }
 
+    /**
+     * Returns an instance of `OracleDBStatementParameterProcessor` for a client, which records the usage of the
+     * implicit statement cache and resolves the names of OBJECT and collection types through the given cache.
+     * @param statementCacheMetrics statement cache metrics of the client, or null if the statement cache is disabled
+     * @param typeDescriptorCache cache of the type names resolved on the connections of the client
+     * @return OracleDBStatementParameterProcessor
+     */
+    public static OracleDBStatementParameterProcessor getInstance(StatementCacheMetrics statementCacheMetrics,
+                                                                  TypeDescriptorCache typeDescriptorCache) {
+        return new OracleDBStatementParameterProcessor(0, statementCacheMetrics, typeDescriptorCache, false);
+    }
+
+    /**
+     * Returns an instance of `OracleDBStatementParameterProcessor` which sets the given fetch size on the
+     * statements it processes.
+     * @param fetchSize number of rows to be fetched in each round trip, ignored if not greater than zero
+     * @return OracleDBStatementParameterProcessor
+     */
+    public OracleDBStatementParameterProcessor withFetchSize(int fetchSize) {
+        if (fetchSize <= 0 || fetchSize == this.fetchSize) {
+            return this;
+        }
+        return new OracleDBStatementParameterProcessor(fetchSize, statementCacheMetrics, typeDescriptorCache,
+                isBatch);
+    }
+
+    /**
+     * Returns an instance of `OracleDBStatementParameterProcessor` for a single batch, in which the parameters of
+     * all the queries are set on the same prepared statement. The statement is recorded in the statement cache
+     * metrics only once, hence the returned instance should not be shared between batches.
+     * @return OracleDBStatementParameterProcessor
+     */
+    public OracleDBStatementParameterProcessor forBatch() {
+        if (statementCacheMetrics == null) {
+            return this;
+        }
+        return new OracleDBStatementParameterProcessor(fetchSize, statementCacheMetrics, typeDescriptorCache, true);
+    }
+
+    @Override
+    public void setParams(Connection connection, PreparedStatement preparedStatement, BObject paramString)
+            throws DataError, SQLException {
+        if (statementCacheMetrics != null && !isStatementRecorded) {
+            statementCacheMetrics.record(connection, preparedStatement, paramString);
+            isStatementRecorded = isBatch;
+        }
+        super.setParams(connection, preparedStatement, paramString);
+        if (fetchSize > 0) {
+            preparedStatement.setFetchSize(fetchSize);
+        }
+    }
+
     @Override
     protected void setCustomSqlTypedParam(Connection connection, PreparedStatement preparedStatement, int index,
         BObject typedValue) throws SQLException, DataError {
@@ -75,6 +152,15 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
             case Constants.Types.CustomTypes.NESTED_TABLE:
                 setArray(connection, preparedStatement, index, value, "nested table");
                 break;
+            case Constants.Types.CustomTypes.VECTOR:
+                VectorUtils.setVector(preparedStatement, index, (BArray) value);
+                break;
+            case Constants.Types.CustomTypes.JSON:
+                setJson(preparedStatement, index, value);
+                break;
+            case Constants.Types.CustomTypes.PLSQL_INDEX_TABLE:
+                IndexTableUtils.setIndexTable(preparedStatement, index, value);
+                break;
             default:
                 throw Utils.throwInvalidParameterError(value, sqlType);
         }
@@ -88,6 +174,8 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
             case Constants.Types.OutParameterTypes.INTERVAL_DAY_TO_SECOND -> OracleTypes.INTERVALDS;
             case Constants.Types.OutParameterTypes.INTERVAL_YEAR_TO_MONTH -> OracleTypes.INTERVALYM;
             case Constants.Types.OutParameterTypes.OBJECT -> Types.STRUCT;
+            case Constants.Types.OutParameterTypes.REF_CURSOR -> OracleTypes.CURSOR;
+            case Constants.Types.OutParameterTypes.PLSQL_INDEX_TABLE -> OracleTypes.PLSQL_INDEX_TABLE;
             default -> throw new UnsupportedTypeError(String.format(
                     "ParameterizedCallQuery consists of a parameter of unsupported type '%s'.", sqlType));
         };
@@ -107,7 +195,10 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
             if (typeName.isBlank()) {
                 throw new DataError("ObjectOutParameter requires a non-empty 'typeName' field");
             }
-            statement.registerOutParameter(index, OracleTypes.STRUCT, typeName.toUpperCase(Locale.ROOT));
+            statement.registerOutParameter(index, OracleTypes.STRUCT,
+                    ConverterUtils.getTypeName(statement.getConnection(), typeDescriptorCache, typeName));
+        } else if (outParamType.equals(Constants.Types.OutParameterTypes.PLSQL_INDEX_TABLE)) {
+            IndexTableUtils.registerOutParameter(statement, index, typedValue);
         } else {
             super.registerOutParameter(statement, index, typedValue, sqlType);
         }
@@ -182,15 +273,23 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
 
     private void setIntervalYearToMonth(PreparedStatement preparedStatement,
                                         int index, Object value) throws SQLException, DataError {
-        String intervalYToM = ConverterUtils.convertIntervalYearToMonth(value);
-        preparedStatement.setString(index, intervalYToM);
+        INTERVALYM intervalYToM = IntervalCodec.encodeIntervalYearToMonth((BMap<BString, Object>) value);
+        preparedStatement.unwrap(OraclePreparedStatement.class).setINTERVALYM(index, intervalYToM);
     }
 
     private void setIntervalDayToSecond(PreparedStatement preparedStatement,
                                         int index, Object value) throws SQLException, DataError {
-        String intervalYToM = ConverterUtils.convertIntervalDayToSecond(value);
-        preparedStatement.setString(index, intervalYToM);
+        INTERVALDS intervalDToS = IntervalCodec.encodeIntervalDayToSecond((BMap<BString, Object>) value);
+        preparedStatement.unwrap(OraclePreparedStatement.class).setINTERVALDS(index, intervalDToS);
+    }
 
+    private void setJson(PreparedStatement preparedStatement, int index, Object value)
+            throws SQLException, DataError {
+        if (value == null) {
+            preparedStatement.setNull(index, OracleTypes.JSON);
+        } else {
+            preparedStatement.setObject(index, OsonCodec.encode(value), OracleType.JSON);
+        }
     }
 
     private void setOracleObject(Connection connection, PreparedStatement preparedStatement, int index, Object value)
@@ -198,7 +297,7 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         if (value == null) {
             throw Utils.throwInvalidParameterError(null, "object");
         }
-        Struct oracleObject = ConverterUtils.convertOracleObject(connection, value);
+        Struct oracleObject = ConverterUtils.convertOracleObject(connection, typeDescriptorCache, value);
         preparedStatement.setObject(index, oracleObject);
     }
 
@@ -208,7 +307,7 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         if (value == null) {
             throw Utils.throwInvalidParameterError(null, type);
         }
-        Array oracleArray = ConverterUtils.convertVarray(connection, value);
+        Array oracleArray = ConverterUtils.convertVarray(connection, typeDescriptorCache, value);
         preparedStatement.setArray(index, oracleArray);
     }
 }
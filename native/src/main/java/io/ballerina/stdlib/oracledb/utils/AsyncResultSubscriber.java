@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OracleResultSet;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * This class subscribes to the result set published by `executeQueryAsyncOracle` and to the rows published from it
+ * by the reactive extensions of the Oracle driver, and hands the rows over to the stream returned from a query of a
+ * client with the `useAsyncExecution` option. At most `prefetch` rows are requested ahead of the consumer of the
+ * stream, and a new row is requested only when a row is consumed. A consumer waiting for a row is resumed by the
+ * callback of the driver which publishes the row.
+ *
+ * @since 1.17.0
+ */
+public class AsyncResultSubscriber implements Flow.Subscriber<Object> {
+
+    private static final Object END_OF_ROWS = new Object();
+
+    private final int prefetch;
+    private final String sqlQuery;
+    private final Runnable resourceCloser;
+    private final Queue<Object> rows = new ArrayDeque<>();
+    private CompletableFuture<Object> pendingRow;
+    private volatile Flow.Subscription subscription;
+    private volatile boolean isClosed;
+
+    public AsyncResultSubscriber(int prefetch, String sqlQuery, Runnable resourceCloser) {
+        this.prefetch = prefetch;
+        this.sqlQuery = sqlQuery;
+        this.resourceCloser = resourceCloser;
+    }
+
+    /**
+     * Create a subscriber which returns the given error to the consumer of the stream.
+     * @param error error to be returned
+     * @return subscriber
+     */
+    public static AsyncResultSubscriber failed(BError error) {
+        AsyncResultSubscriber subscriber = new AsyncResultSubscriber(0, null, () -> { });
+        subscriber.publish(error);
+        return subscriber;
+    }
+
+    /**
+     * Subscribe to the result set published by the driver once the query is executed, and then to its rows.
+     * @param resultSetPublisher publisher returned from `executeQueryAsyncOracle`
+     * @param rowConverter converter of the rows of the result set
+     */
+    public void subscribe(Flow.Publisher<OracleResultSet> resultSetPublisher, RowConverter rowConverter) {
+        resultSetPublisher.subscribe(new Flow.Subscriber<>() {
+            private boolean isPublished;
+
+            @Override
+            public void onSubscribe(Flow.Subscription resultSetSubscription) {
+                resultSetSubscription.request(1);
+            }
+
+            @Override
+            public void onNext(OracleResultSet resultSet) {
+                isPublished = true;
+                try {
+                    resultSet.publisherOracle(rowConverter::convert).subscribe(AsyncResultSubscriber.this);
+                } catch (SQLException e) {
+                    AsyncResultSubscriber.this.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                AsyncResultSubscriber.this.onError(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                if (!isPublished) {
+                    AsyncResultSubscriber.this.onComplete();
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (isClosed) {
+            subscription.cancel();
+        } else {
+            subscription.request(prefetch);
+        }
+    }
+
+    @Override
+    public void onNext(Object row) {
+        publish(row);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (throwable instanceof BError) {
+            publish(throwable);
+        } else if (throwable instanceof SQLException) {
+            publish(ErrorGenerator.getSQLDatabaseError((SQLException) throwable,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery)));
+        } else {
+            publish(ErrorGenerator.getSQLApplicationError(String.format(
+                    "Error while executing SQL query: %s. %s", sqlQuery, throwable.getMessage())));
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        publish(END_OF_ROWS);
+    }
+
+    private synchronized void publish(Object row) {
+        if (pendingRow != null) {
+            CompletableFuture<Object> consumer = pendingRow;
+            pendingRow = null;
+            consumer.complete(row);
+        } else {
+            rows.add(row);
+        }
+    }
+
+    private synchronized CompletableFuture<Object> nextRow() {
+        Object row = rows.poll();
+        if (row != null) {
+            return CompletableFuture.completedFuture(row);
+        }
+        pendingRow = new CompletableFuture<>();
+        return pendingRow;
+    }
+
+    /**
+     * Wait for the next row, which is called within `yieldAndRun` so that the calling strand is parked until the
+     * driver publishes the row.
+     * @return next row, an error or null if there are no more rows
+     */
+    public Object next() {
+        if (isClosed) {
+            return null;
+        }
+        Object row = nextRow().join();
+        if (row == END_OF_ROWS) {
+            close();
+            return null;
+        }
+        if (row instanceof BError) {
+            close();
+            return row;
+        }
+        subscription.request(1);
+        return row;
+    }
+
+    /**
+     * Cancel the subscription and release the resources of the query.
+     */
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        resourceCloser.run();
+    }
+}
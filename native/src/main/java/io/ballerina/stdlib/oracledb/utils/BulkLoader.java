@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * This class loads the rows of a stream into a table for the `bulkLoad` method. The fields of the records are mapped
+ * to the columns and to their binders once, each row is bound on a single prepared statement, and the rows are sent
+ * to the database with array DML whenever a batch is flushed. Only the rows of the current batch are held by the
+ * driver, hence the memory used does not grow with the number of rows loaded.
+ *
+ * @since 1.17.0
+ */
+public class BulkLoader {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*|\"[^\"]+\"");
+    private static final String DIRECT_PATH_HINT = "/*+ APPEND_VALUES */ ";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final boolean isWithinTrxBlock;
+    private final boolean isAutoCommit;
+    private final BString[] fieldNames;
+    private final ColumnBinder.ValueBinder[] binders;
+    private final boolean commitEachFlush;
+    private final long commitInterval;
+    private final long startTime = System.nanoTime();
+    private long pendingRows;
+    private long uncommittedRows;
+    private long loadedRows;
+    private boolean isClosed;
+
+    private BulkLoader(Connection connection, PreparedStatement statement, boolean isWithinTrxBlock,
+                       boolean isAutoCommit, Columns columns, boolean commitEachFlush, long commitInterval) {
+        this.connection = connection;
+        this.statement = statement;
+        this.isWithinTrxBlock = isWithinTrxBlock;
+        this.isAutoCommit = isAutoCommit;
+        this.fieldNames = columns.fieldNames;
+        this.binders = columns.binders;
+        this.commitEachFlush = commitEachFlush;
+        this.commitInterval = commitInterval;
+    }
+
+    /**
+     * Map the fields of the given record to the columns to be loaded. If no columns are given, the fields of the
+     * record type, or the fields of the record if its type has no fields, are loaded into the columns of the same
+     * name. Each column is bound from the field of the same name, compared without case.
+     * @param firstRow first row of the stream
+     * @param columnNames names of the columns to be loaded or null
+     * @return columns along with the fields from which they are bound
+     * @throws DataError if a column name is not a valid identifier
+     */
+    public static Columns mapColumns(BMap<BString, Object> firstRow, BArray columnNames) throws DataError {
+        RecordType recordType = (RecordType) TypeUtils.getReferredType(TypeUtils.getType(firstRow));
+        Map<String, Field> fields = recordType.getFields();
+        List<String> names = new ArrayList<>();
+        if (columnNames != null) {
+            for (int i = 0; i < columnNames.size(); i++) {
+                names.add(columnNames.getBString(i).getValue());
+            }
+        } else if (!fields.isEmpty()) {
+            names.addAll(fields.keySet());
+        } else {
+            for (BString key : firstRow.getKeys()) {
+                names.add(key.getValue());
+            }
+        }
+        if (names.isEmpty()) {
+            throw new DataError("No columns are found to be loaded from the records of the stream.");
+        }
+        Map<String, String> fieldsByName = new HashMap<>();
+        for (String fieldName : fields.keySet()) {
+            fieldsByName.putIfAbsent(fieldName.toUpperCase(Locale.ENGLISH), fieldName);
+        }
+        for (BString key : firstRow.getKeys()) {
+            fieldsByName.putIfAbsent(key.getValue().toUpperCase(Locale.ENGLISH), key.getValue());
+        }
+        BString[] fieldNames = new BString[names.size()];
+        ColumnBinder.ValueBinder[] binders = new ColumnBinder.ValueBinder[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            String columnName = names.get(i);
+            validateIdentifier(columnName, "Column");
+            String fieldName = fieldsByName.getOrDefault(
+                    unquote(columnName).toUpperCase(Locale.ENGLISH), columnName);
+            Field field = fields.get(fieldName);
+            if (field == null && recordType.isSealed()) {
+                throw new DataError(String.format("Column '%s' does not match a field of the record type '%s'.",
+                        columnName, recordType));
+            }
+            fieldNames[i] = StringUtils.fromString(fieldName);
+            binders[i] = ColumnBinder.forFieldType(field != null ? field.getFieldType() :
+                    PredefinedTypes.TYPE_ANYDATA);
+        }
+        return new Columns(names, fieldNames, binders);
+    }
+
+    /**
+     * Create the INSERT statement of a bulk load.
+     * @param tableName name of the table, which may be qualified with the name of the schema
+     * @param columns columns to be loaded
+     * @param directPath whether the rows are inserted through direct-path insert
+     * @return SQL query
+     * @throws DataError if the table name is not a valid identifier
+     */
+    public static String createInsertQuery(String tableName, Columns columns, boolean directPath)
+            throws DataError {
+        for (String namePart : tableName.split("\\.", 2)) {
+            validateIdentifier(namePart, "Table");
+        }
+        StringBuilder sqlQuery = new StringBuilder("INSERT ");
+        if (directPath) {
+            sqlQuery.append(DIRECT_PATH_HINT);
+        }
+        sqlQuery.append("INTO ").append(tableName).append(" (").append(String.join(", ", columns.names))
+                .append(") VALUES (");
+        for (int i = 0; i < columns.names.size(); i++) {
+            sqlQuery.append(i == 0 ? "?" : ", ?");
+        }
+        return sqlQuery.append(')').toString();
+    }
+
+    /**
+     * Create a loader on the given connection. Outside transactions, the rows are committed by the loader, hence the
+     * auto-commit mode of the connection is disabled until the loader is closed.
+     * @param connection connection on which the rows are loaded
+     * @param sqlQuery INSERT statement of the bulk load
+     * @param columns columns to be loaded
+     * @param isWithinTrxBlock whether the load is part of a transaction, in which case the rows are not committed
+     * @param commitEachFlush whether the rows are committed after each batch
+     * @param commitInterval number of rows after which the rows are committed, or zero to commit once all the rows
+     *                       are loaded
+     * @return loader
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public static BulkLoader create(Connection connection, String sqlQuery, Columns columns, boolean isWithinTrxBlock,
+                                    boolean commitEachFlush, long commitInterval) throws SQLException {
+        boolean isAutoCommit = !isWithinTrxBlock && connection.getAutoCommit();
+        if (isAutoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try {
+            return new BulkLoader(connection, connection.prepareStatement(sqlQuery), isWithinTrxBlock, isAutoCommit,
+                    columns, commitEachFlush, commitInterval);
+        } catch (SQLException e) {
+            if (isAutoCommit) {
+                connection.setAutoCommit(true);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Bind a row to the current batch.
+     * @param row record to be loaded
+     * @throws SQLException if a value cannot be bound
+     * @throws DataError if a value is of an unsupported type
+     */
+    public synchronized void addRow(BMap<BString, Object> row) throws SQLException, DataError {
+        for (int i = 0; i < binders.length; i++) {
+            binders[i].bind(statement, i + 1, row.get(fieldNames[i]));
+        }
+        statement.addBatch();
+        pendingRows++;
+    }
+
+    /**
+     * Send the rows of the current batch to the database, and commit them if the commit interval is reached.
+     * @throws SQLException if the rows cannot be inserted or committed
+     */
+    public synchronized void flush() throws SQLException {
+        if (pendingRows == 0) {
+            return;
+        }
+        statement.executeLargeBatch();
+        loadedRows += pendingRows;
+        uncommittedRows += pendingRows;
+        pendingRows = 0;
+        if (!isWithinTrxBlock && (commitEachFlush || (commitInterval > 0 && uncommittedRows >= commitInterval))) {
+            connection.commit();
+            uncommittedRows = 0;
+        }
+    }
+
+    /**
+     * Flush and commit the remaining rows and close the loader.
+     * @return `BulkLoadResult` record
+     * @throws SQLException if the rows cannot be inserted or committed
+     */
+    public synchronized BMap<BString, Object> finish() throws SQLException {
+        flush();
+        if (!isWithinTrxBlock && uncommittedRows > 0) {
+            connection.commit();
+            uncommittedRows = 0;
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+        close();
+        Map<String, Object> result = new HashMap<>();
+        result.put(Constants.BulkLoad.ROW_COUNT, loadedRows);
+        result.put(Constants.BulkLoad.ELAPSED_TIME,
+                ValueCreator.createDecimalValue(BigDecimal.valueOf(elapsedNanos, 9)));
+        result.put(Constants.BulkLoad.ROWS_PER_SECOND,
+                elapsedNanos == 0 ? 0d : loadedRows * 1_000_000_000d / elapsedNanos);
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BulkLoad.RESULT_RECORD, result);
+    }
+
+    /**
+     * Roll back the rows which are not yet committed and close the loader. Within a transaction, the rows are rolled
+     * back along with the transaction instead.
+     */
+    public synchronized void abort() {
+        if (isClosed) {
+            return;
+        }
+        if (!isWithinTrxBlock) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+                // The uncommitted rows are discarded when the connection is returned to the pool
+            }
+        }
+        close();
+    }
+
+    /**
+     * Return the number of rows committed by the loader.
+     * @return number of committed rows
+     */
+    public synchronized long getCommittedRowCount() {
+        return isWithinTrxBlock ? 0 : loadedRows - uncommittedRows;
+    }
+
+    private void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        if (isAutoCommit) {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                // The auto-commit mode is reset by the connection pool
+            }
+        }
+        Utils.closeResources(isWithinTrxBlock, null, statement, connection);
+    }
+
+    private static void validateIdentifier(String name, String kind) throws DataError {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new DataError(String.format("%s name '%s' is not a valid identifier.", kind, name));
+        }
+    }
+
+    private static String unquote(String name) {
+        return name.startsWith("\"") ? name.substring(1, name.length() - 1) : name;
+    }
+
+    /**
+     * Columns of a bulk load along with the fields from which they are bound.
+     */
+    public static class Columns {
+
+        private final List<String> names;
+        private final BString[] fieldNames;
+        private final ColumnBinder.ValueBinder[] binders;
+
+        private Columns(List<String> names, BString[] fieldNames, ColumnBinder.ValueBinder[] binders) {
+            this.names = names;
+            this.fieldNames = fieldNames;
+            this.binders = binders;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * This class creates binders which set the values of a column of Ballerina values directly on a prepared statement,
+ * without going through the generic statement parameter processor for each row.
+ *
+ * @since 1.17.0
+ */
+public class ColumnBinder {
+
+    private ColumnBinder() {}
+
+    /**
+     * Sets the value of a row of a column on a prepared statement.
+     */
+    @FunctionalInterface
+    public interface Binder {
+        void bind(PreparedStatement statement, int parameterIndex, int row) throws SQLException;
+    }
+
+    /**
+     * Sets a single Ballerina value on a prepared statement.
+     */
+    @FunctionalInterface
+    public interface ValueBinder {
+        void bind(PreparedStatement statement, int parameterIndex, Object value) throws SQLException, DataError;
+    }
+
+    /**
+     * Create a binder for the values of a record field of the given type. Fields of types other than `int`, `float`,
+     * `decimal`, `string`, `boolean`, `byte[]` and `float[]` or their optional types are bound based on the type of
+     * each value.
+     * @param fieldType declared type of the field
+     * @return binder of the field values
+     */
+    public static ValueBinder forFieldType(Type fieldType) {
+        Type type = TypeUtils.getReferredType(fieldType);
+        if (type.getTag() == TypeTags.UNION_TAG) {
+            Type nonNullType = Utils.getNonNullMemberType((UnionType) type);
+            if (nonNullType == null) {
+                return ColumnBinder::bindValue;
+            }
+            type = nonNullType;
+        }
+        int typeTag = type.getTag();
+        if (TypeTags.isIntegerTypeTag(typeTag)) {
+            return (statement, index, value) -> {
+                if (value == null) {
+                    statement.setNull(index, Types.BIGINT);
+                } else {
+                    statement.setLong(index, ((Number) value).longValue());
+                }
+            };
+        }
+        switch (typeTag) {
+            case TypeTags.FLOAT_TAG:
+                return (statement, index, value) -> {
+                    if (value == null) {
+                        statement.setNull(index, Types.DOUBLE);
+                    } else {
+                        statement.setDouble(index, (Double) value);
+                    }
+                };
+            case TypeTags.DECIMAL_TAG:
+                return (statement, index, value) -> statement.setBigDecimal(index,
+                        value == null ? null : ((BDecimal) value).decimalValue());
+            case TypeTags.STRING_TAG:
+                return (statement, index, value) -> statement.setString(index,
+                        value == null ? null : ((BString) value).getValue());
+            case TypeTags.BOOLEAN_TAG:
+                return (statement, index, value) -> {
+                    if (value == null) {
+                        statement.setNull(index, Types.BOOLEAN);
+                    } else {
+                        statement.setBoolean(index, (Boolean) value);
+                    }
+                };
+            case TypeTags.ARRAY_TAG:
+                if (isByteArrayType(type)) {
+                    return (statement, index, value) -> statement.setBytes(index,
+                            value == null ? null : ((BArray) value).getBytes());
+                }
+                if (isFloatArrayType(type)) {
+                    return (statement, index, value) -> VectorUtils.setVector(statement, index, (BArray) value);
+                }
+                return ColumnBinder::bindValue;
+            default:
+                return ColumnBinder::bindValue;
+        }
+    }
+
+    private static void bindValue(PreparedStatement statement, int index, Object value)
+            throws SQLException, DataError {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else if (value instanceof Long) {
+            statement.setLong(index, (Long) value);
+        } else if (value instanceof Double) {
+            statement.setDouble(index, (Double) value);
+        } else if (value instanceof BDecimal) {
+            statement.setBigDecimal(index, ((BDecimal) value).decimalValue());
+        } else if (value instanceof BString) {
+            statement.setString(index, ((BString) value).getValue());
+        } else if (value instanceof Boolean) {
+            statement.setBoolean(index, (Boolean) value);
+        } else if (value instanceof Integer || value instanceof Byte) {
+            statement.setLong(index, ((Number) value).longValue());
+        } else if (isArrayOf(value, TypeTags.BYTE_TAG)) {
+            statement.setBytes(index, ((BArray) value).getBytes());
+        } else if (isArrayOf(value, TypeTags.FLOAT_TAG)) {
+            VectorUtils.setVector(statement, index, (BArray) value);
+        } else {
+            throw new UnsupportedTypeError(String.format("Value of type '%s' is not supported for bulk binding. " +
+                    "Only int, float, decimal, string, boolean, byte[] and float[] values are supported.",
+                    TypeUtils.getType(value)));
+        }
+    }
+
+    /**
+     * Create a binder for a column given as a Ballerina array such as `int[]`, `decimal?[]` or `string[]`.
+     * @param column array of column values
+     * @param columnIndex index of the column in the query, used in error messages
+     * @return binder of the column
+     * @throws DataError if the element type of the array is not supported
+     */
+    public static Binder forArray(BArray column, int columnIndex) throws DataError {
+        Type elementType = TypeUtils.getReferredType(column.getElementType());
+        if (elementType.getTag() == TypeTags.UNION_TAG) {
+            Type nonNullType = Utils.getNonNullMemberType((UnionType) elementType);
+            if (nonNullType == null) {
+                throw unsupportedColumnError(column, columnIndex);
+            }
+            return forNullableArray(column, nonNullType, columnIndex);
+        }
+        int typeTag = elementType.getTag();
+        if (TypeTags.isIntegerTypeTag(typeTag)) {
+            return (statement, index, row) -> statement.setLong(index, column.getInt(row));
+        }
+        switch (typeTag) {
+            case TypeTags.FLOAT_TAG:
+                return (statement, index, row) -> statement.setDouble(index, column.getFloat(row));
+            case TypeTags.DECIMAL_TAG:
+                return (statement, index, row) -> statement.setBigDecimal(index,
+                        ((BDecimal) column.getRefValue(row)).decimalValue());
+            case TypeTags.STRING_TAG:
+                return (statement, index, row) -> statement.setString(index, column.getBString(row).getValue());
+            case TypeTags.BOOLEAN_TAG:
+                return (statement, index, row) -> statement.setBoolean(index, column.getBoolean(row));
+            case TypeTags.ARRAY_TAG:
+                if (isByteArrayType(elementType)) {
+                    return (statement, index, row) -> statement.setBytes(index,
+                            ((BArray) column.getRefValue(row)).getBytes());
+                }
+                if (isFloatArrayType(elementType)) {
+                    return (statement, index, row) -> VectorUtils.setVector(statement, index,
+                            (BArray) column.getRefValue(row));
+                }
+                throw unsupportedColumnError(column, columnIndex);
+            default:
+                throw unsupportedColumnError(column, columnIndex);
+        }
+    }
+
+    private static Binder forNullableArray(BArray column, Type elementType, int columnIndex) throws DataError {
+        int typeTag = elementType.getTag();
+        if (TypeTags.isIntegerTypeTag(typeTag)) {
+            return (statement, index, row) -> {
+                Object value = column.get(row);
+                if (value == null) {
+                    statement.setNull(index, Types.BIGINT);
+                } else {
+                    statement.setLong(index, (Long) value);
+                }
+            };
+        }
+        switch (typeTag) {
+            case TypeTags.FLOAT_TAG:
+                return (statement, index, row) -> {
+                    Object value = column.get(row);
+                    if (value == null) {
+                        statement.setNull(index, Types.DOUBLE);
+                    } else {
+                        statement.setDouble(index, (Double) value);
+                    }
+                };
+            case TypeTags.DECIMAL_TAG:
+                return (statement, index, row) -> {
+                    Object value = column.get(row);
+                    statement.setBigDecimal(index, value == null ? null : ((BDecimal) value).decimalValue());
+                };
+            case TypeTags.STRING_TAG:
+                return (statement, index, row) -> {
+                    Object value = column.get(row);
+                    statement.setString(index, value == null ? null : ((BString) value).getValue());
+                };
+            case TypeTags.BOOLEAN_TAG:
+                return (statement, index, row) -> {
+                    Object value = column.get(row);
+                    if (value == null) {
+                        statement.setNull(index, Types.BOOLEAN);
+                    } else {
+                        statement.setBoolean(index, (Boolean) value);
+                    }
+                };
+            case TypeTags.ARRAY_TAG:
+                if (isByteArrayType(elementType)) {
+                    return (statement, index, row) -> {
+                        Object value = column.get(row);
+                        statement.setBytes(index, value == null ? null : ((BArray) value).getBytes());
+                    };
+                }
+                if (isFloatArrayType(elementType)) {
+                    return (statement, index, row) -> VectorUtils.setVector(statement, index,
+                            (BArray) column.get(row));
+                }
+                throw unsupportedColumnError(column, columnIndex);
+            default:
+                throw unsupportedColumnError(column, columnIndex);
+        }
+    }
+
+    private static boolean isArrayOf(Object value, int elementTypeTag) {
+        if (!(value instanceof BArray)) {
+            return false;
+        }
+        Type type = TypeUtils.getReferredType(((BArray) value).getType());
+        return type.getTag() == TypeTags.ARRAY_TAG &&
+                TypeUtils.getReferredType(((ArrayType) type).getElementType()).getTag() == elementTypeTag;
+    }
+
+    private static boolean isByteArrayType(Type type) {
+        return TypeUtils.getReferredType(((ArrayType) type).getElementType()).getTag() == TypeTags.BYTE_TAG;
+    }
+
+    private static boolean isFloatArrayType(Type type) {
+        return TypeUtils.getReferredType(((ArrayType) type).getElementType()).getTag() == TypeTags.FLOAT_TAG;
+    }
+
+    private static DataError unsupportedColumnError(BArray column, int columnIndex) {
+        return new UnsupportedTypeError(String.format("Column %d of type '%s' is not supported for array binding. " +
+                "Only arrays of int, float, decimal, string, boolean, byte[] and float[] values are supported.",
+                columnIndex, column.getType().toString()));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.observability.OracleDBMetrics;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class warms up the connection pool of a client at client creation. The connections are opened in parallel
+ * and held until all of them are open, so that the pool creates distinct physical connections, and the given
+ * statements are described on each connection so that they are parsed before the first request.
+ *
+ * @since 1.17.0
+ */
+public class ConnectionPoolWarmUp {
+
+    private ConnectionPoolWarmUp() {}
+
+    /**
+     * Warm up the connection pool of the client.
+     * @param client client object
+     * @param warmUpConfig warm-up configurations provided by the user
+     * @param connectionPool connection pool configurations of the client
+     * @param metrics metrics of the client
+     * @return error if the warm-up fails
+     */
+    public static Object warmUp(BObject client, BMap<BString, Object> warmUpConfig, BMap connectionPool,
+                                OracleDBMetrics metrics) {
+        Object datasource = Utils.getSQLDatasource(client);
+        if (!(datasource instanceof SQLDatasource)) {
+            return datasource;
+        }
+        int connectionCount = getConnectionCount(warmUpConfig, connectionPool);
+        BArray statementsVal = warmUpConfig.getArrayValue(Constants.WarmUp.STATEMENTS);
+        String[] statements = statementsVal == null ? new String[0] : statementsVal.getStringArray();
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        List<Connection> connections = Collections.synchronizedList(new ArrayList<>());
+        long startTime = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < connectionCount; i++) {
+                tasks.add(executor.submit(() -> {
+                    Connection connection = Utils.getConnection(client, (SQLDatasource) datasource, false,
+                            trxResourceManager);
+                    connections.add(connection);
+                    prepareStatements(connection, statements);
+                    return null;
+                }));
+            }
+            for (Future<Void> task : tasks) {
+                task.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                return ErrorGenerator.getSQLDatabaseError((SQLException) cause,
+                        "Error while warming up the connection pool. ");
+            }
+            return ErrorGenerator.getSQLApplicationError(
+                    "Error while warming up the connection pool: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ErrorGenerator.getSQLApplicationError("Interrupted while warming up the connection pool.");
+        } finally {
+            for (Connection connection : connections) {
+                Utils.closeResources(false, null, null, connection);
+            }
+        }
+        metrics.gauge(Constants.Metrics.WARM_UP_DURATION, "Time taken to warm up the connection pool")
+                .setValue((System.nanoTime() - startTime) / 1_000_000_000.0);
+        metrics.gauge(Constants.Metrics.WARM_UP_CONNECTIONS, "Number of connections opened by the warm-up")
+                .setValue(connectionCount);
+        return null;
+    }
+
+    private static int getConnectionCount(BMap<BString, Object> warmUpConfig, BMap connectionPool) {
+        long connectionCount = Utils.getPositiveIntValue(warmUpConfig.get(Constants.WarmUp.CONNECTIONS));
+        if (connectionCount <= 0) {
+            connectionCount = Utils.getPositiveIntValue(
+                    connectionPool.get(Constants.ConnectionPool.MIN_IDLE_CONNECTIONS));
+        }
+        long maxOpenConnections = Utils.getPositiveIntValue(
+                connectionPool.get(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS));
+        if (maxOpenConnections > 0 && connectionCount > maxOpenConnections) {
+            connectionCount = maxOpenConnections;
+        }
+        return (int) Math.max(connectionCount, 1);
+    }
+
+    private static void prepareStatements(Connection connection, String[] statements) throws SQLException {
+        for (String statement : statements) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(statement)) {
+                // Describing the statement parses it on the server, which the driver otherwise defers until the
+                // first execution. Closing it places it in the implicit statement cache, if it is enabled.
+                preparedStatement.getMetaData();
+            }
+        }
+    }
+}
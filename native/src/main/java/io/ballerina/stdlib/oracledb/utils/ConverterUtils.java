@@ -18,17 +18,17 @@
 
 package io.ballerina.stdlib.oracledb.utils;
 
-import io.ballerina.runtime.api.constants.TypeConstants;
-import io.ballerina.runtime.api.types.Field;
-import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.cache.TypeDescriptorCache;
 import io.ballerina.stdlib.sql.exception.ConversionError;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
@@ -38,10 +38,7 @@ import java.sql.Array;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Struct;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Locale;
-import java.util.Map;
 
 
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
@@ -53,72 +50,25 @@ import static io.ballerina.runtime.api.utils.StringUtils.fromString;
  */
 public class ConverterUtils {
 
-    private ConverterUtils() {}
-
-    /**
-     * Convert IntervalYearToMonthValue value to String.
-     * @param value Custom IntervalYearToMonthValue value
-     * @return String of INTERVAL_YEAR_TO_MONTH
-     * @throws DataError error thrown if invalid types are passed
-     */
-    public static String convertIntervalYearToMonth(Object value)
-            throws DataError {
-        Map<String, Object> fields = getRecordData(value, Constants.Types.OracleDbTypes.INTERVAL_YEAR_TO_MONTH);
-
-        long years = fields.get(Constants.Types.IntervalYearToMonth.YEARS) == null ? 0L :
-                (Long) fields.get(Constants.Types.IntervalYearToMonth.YEARS);
-        long months = fields.get(Constants.Types.IntervalYearToMonth.MONTHS) == null ? 0L :
-                (Long) fields.get(Constants.Types.IntervalYearToMonth.MONTHS);
-        long sign = (Long) fields.get(Constants.Types.IntervalYearToMonth.SIGN);
-        long effectiveMonths = (years * 12L) + months;
-        years = effectiveMonths / 12L;
-        months = effectiveMonths % 12L;
-        return sign == -1L ? "-" + years + "-" + months : years + "-" + months;
-    }
+    private static final BString OBJECT_TYPE_NAME = fromString(Constants.Types.OracleObject.TYPE_NAME);
+    private static final BString OBJECT_ATTRIBUTES = fromString(Constants.Types.OracleObject.ATTRIBUTES);
+    private static final BString VARRAY_NAME = fromString(Constants.Types.Varray.NAME);
+    private static final BString VARRAY_ELEMENTS = fromString(Constants.Types.Varray.ELEMENTS);
 
-    /**
-     * Convert IntervalDayToSecondValue value to String.
-     * @param value Custom IntervalDayToSecond value
-     * @return String of INTERVAL_DAY_TO_SECOND
-     * @throws DataError error thrown if invalid types are passed
-     */
-    public static String convertIntervalDayToSecond(Object value)
-            throws DataError {
-        Map<String, Object> fields = getRecordData(value, Constants.Types.OracleDbTypes.INTERVAL_DAY_TO_SECOND);
-        long days = fields.get(Constants.Types.IntervalDayToSecond.DAYS) == null ? 0L :
-                (Long) fields.get(Constants.Types.IntervalDayToSecond.DAYS);
-        long hours = fields.get(Constants.Types.IntervalDayToSecond.HOURS) == null ? 0L :
-                (Long) fields.get(Constants.Types.IntervalDayToSecond.HOURS);
-        long minutes = fields.get(Constants.Types.IntervalDayToSecond.MINUTES) == null ? 0L :
-                (Long) fields.get(Constants.Types.IntervalDayToSecond.MINUTES);
-        double seconds = fields.get(Constants.Types.IntervalDayToSecond.SECONDS) == null ? 0.0d :
-                ((BDecimal) fields.get(Constants.Types.IntervalDayToSecond.SECONDS)).floatValue();
-        long sign = (Long) fields.get(Constants.Types.IntervalDayToSecond.SIGN);
-        BigDecimal effectivePeriod = new BigDecimal(String.valueOf((((((days * 24L) + hours) * 60L) + minutes) * 60L) +
-                seconds));
-        long onlyLongPeriod = effectivePeriod.longValue();
-        days = onlyLongPeriod / (86400L);
-        long leftover = onlyLongPeriod % (86400L);
-        hours = leftover / (3600L);
-        leftover = leftover % (3600L);
-        minutes = leftover / 60L;
-        leftover = leftover % 60L;
-        seconds = leftover + effectivePeriod.subtract(new BigDecimal(onlyLongPeriod)).doubleValue();
-        return sign == -1L ? "-" + days + " " + hours + ":" + minutes + ":" + seconds :
-                days + " " + hours + ":" + minutes + ":" + seconds;
-    }
+    private ConverterUtils() {}
 
     /**
      * Convert OracleObjectValue value to oracle.sql.STRUCT.
+     * @param typeDescriptorCache cache of the type names resolved on the connection, or null if there is none
      * @param value Custom Bfile value
      * @return String of BFILE
      */
-    public static Struct convertOracleObject(Connection connection, Object value)
-            throws DataError, SQLException {
-        Map<String, Object> fields = getRecordData(value, Constants.Types.OracleDbTypes.OBJECT_TYPE);
-        String objectTypeName = ((BString) fields.get(Constants.Types.OracleObject.TYPE_NAME))
-                .getValue().toUpperCase(Locale.ENGLISH);
-        Object[] attributes = (Object[]) fields.get(Constants.Types.OracleObject.ATTRIBUTES);
+    public static Struct convertOracleObject(Connection connection, TypeDescriptorCache typeDescriptorCache,
+                                             Object value) throws DataError, SQLException {
+        BMap<BString, Object> objectRecord = (BMap<BString, Object>) value;
+        String objectTypeName = getTypeName(connection, typeDescriptorCache,
+                objectRecord.getStringValue(OBJECT_TYPE_NAME).getValue());
+        Object[] attributes = getArrayField(objectRecord, OBJECT_ATTRIBUTES);
         try {
             return connection.createStruct(objectTypeName, attributes);
         } catch (SQLException e) {
@@ -131,93 +81,85 @@ public class ConverterUtils {
 
     /**
      * Convert VArray value to oracle.sql.Array.
+     * @param typeDescriptorCache cache of the type names resolved on the connection, or null if there is none
      * @param value Custom VArray Value
      * @return sql Array
      * @throws DataError throws error if the parameter types are incorrect
      */
-    public static Array convertVarray(Connection connection, Object value)
+    public static Array convertVarray(Connection connection, TypeDescriptorCache typeDescriptorCache, Object value)
             throws DataError, SQLException {
-        Map<String, Object> fields = getRecordData(value, Constants.Types.OracleDbTypes.VARRAY);
-        String name = ((BString) fields.get(Constants.Types.Varray.NAME)).getValue().toUpperCase(Locale.ENGLISH);
-        Object varray = fields.get(Constants.Types.Varray.ELEMENTS);
-        return Utils.getOracleConnection(connection).createARRAY(name, varray);
+        BMap<BString, Object> varrayRecord = (BMap<BString, Object>) value;
+        String name = getTypeName(connection, typeDescriptorCache, varrayRecord.getStringValue(VARRAY_NAME).getValue());
+        Object elements = varrayRecord.get(VARRAY_ELEMENTS);
+        Object varray = elements == null ? null : getVarrayData((BArray) elements);
+        return Utils.getOracleConnection(connection).createOracleArray(name, varray);
     }
 
-    private static Map<String, Object> getRecordData(Object value, String sqlType)
-            throws DataError {
-        Type type = TypeUtils.getType(value);
-        Map<String, Field> structFields = ((StructureType) type).getFields();
-        int fieldCount = structFields.size();
-        Iterator<Field> fieldIterator = structFields.values().iterator();
-        HashMap<String, Object> structData = new HashMap<>();
-        for (int i = 0; i < fieldCount; i++) {
-            Field field = fieldIterator.next();
-            Object bValue = ((BMap) value).get(fromString(field.getFieldName()));
-            int typeTag = TypeUtils.getReferredType(field.getFieldType()).getTag();
-            switch (typeTag) {
-                case TypeTags.INT_TAG:
-                case TypeTags.FLOAT_TAG:
-                case TypeTags.STRING_TAG:
-                case TypeTags.BOOLEAN_TAG:
-                case TypeTags.DECIMAL_TAG:
-                case TypeTags.FINITE_TYPE_TAG:
-                case TypeTags.UNSIGNED32_INT_TAG:
-                    structData.put(field.getFieldName(), bValue);
-                    break;
-                case TypeTags.ARRAY_TAG:
-                    Object arrayData = getArrayData(bValue);
-                    structData.put(field.getFieldName(), arrayData);
-                    break;
-                case TypeTags.RECORD_TYPE_TAG:
-                    structData.put(field.getFieldName(), getRecordData(bValue, sqlType));
-                    break;
-                case TypeTags.UNION_TAG:
-                    if (bValue == null) {
-                        structData.put(field.getFieldName(), null);
-                    } else if (bValue instanceof BArray) {
-                        structData.put(field.getFieldName(), getArrayData(bValue));
-                    } else if (bValue instanceof BString) {
-                        structData.put(field.getFieldName(), bValue);
-                    } else {
-                        throw Utils.throwInvalidParameterError(value, sqlType);
-                    }
-                    break;
-                default:
-                    throw Utils.throwInvalidParameterError(value, sqlType);
-            }
+    /**
+     * Return the name of an OBJECT or collection type as it is resolved by the driver.
+     * @param typeDescriptorCache cache of the type names resolved on the connection, or null if there is none
+     * @param typeName name of the type as given by the user
+     * @return upper-cased name of the type
+     */
+    public static String getTypeName(Connection connection, TypeDescriptorCache typeDescriptorCache,
+                                     String typeName) throws SQLException {
+        if (typeDescriptorCache == null) {
+            return typeName.toUpperCase(Locale.ENGLISH);
+        }
+        return typeDescriptorCache.getTypeName(connection, typeName);
+    }
+
+    private static Object getVarrayData(BArray elements) throws DataError {
+        // The driver accepts primitive arrays, hence int[] and float[] are bound without boxing each element
+        switch (TypeUtils.getReferredType(elements.getElementType()).getTag()) {
+            case TypeTags.INT_TAG:
+                return Utils.toLongArray(elements);
+            case TypeTags.FLOAT_TAG:
+                return Utils.toDoubleArray(elements);
+            default:
+                return getArrayData(elements);
         }
-        return structData;
+    }
+
+    private static Object[] getArrayField(BMap<BString, Object> value, BString fieldName) throws DataError {
+        Object bValue = value.get(fieldName);
+        return bValue == null ? null : getArrayData(bValue);
     }
 
     private static Object[] getArrayData(Object bValue) throws DataError {
-        String elementType = ((BArray) bValue).getElementType().toString();
-        switch (elementType) {
-            case TypeConstants.BYTE_TNAME:
-                return getByteOnlyArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_BYTE:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.BYTE_ARRAY_TYPE:
-                return getByteArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_INT:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.INT:
+        Type elementType = TypeUtils.getReferredType(((BArray) bValue).getElementType());
+        boolean isNullable = false;
+        if (elementType.getTag() == TypeTags.UNION_TAG) {
+            Type nonNullType = Utils.getNonNullMemberType((UnionType) elementType);
+            // A union of several member types such as `int|string` is not supported
+            elementType = nonNullType != null ? nonNullType : elementType;
+            isNullable = true;
+        }
+        switch (elementType.getTag()) {
+            case TypeTags.BYTE_TAG:
+                return isNullable ? getByteArrayData(bValue) : getByteOnlyArrayData(bValue);
+            case TypeTags.ARRAY_TAG:
+                if (TypeUtils.getReferredType(((ArrayType) elementType).getElementType()).getTag()
+                        == TypeTags.BYTE_TAG) {
+                    return getByteArrayData(bValue);
+                }
+                break;
+            case TypeTags.INT_TAG:
                 return getIntArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_BOOLEAN:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.BOOLEAN_TYPE:
+            case TypeTags.BOOLEAN_TAG:
                 return getBooleanArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_FLOAT:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.FLOAT_TYPE:
+            case TypeTags.FLOAT_TAG:
                 return getFloatArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_DECIMAL:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.DECIMAL_TYPE:
+            case TypeTags.DECIMAL_TAG:
                 return getDecimalArrayData(bValue);
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.OPTIONAL_STRING:
-            case io.ballerina.stdlib.sql.Constants.SqlTypes.STRING:
+            case TypeTags.STRING_TAG:
                 return getStringArrayData(bValue);
-            case TypeConstants.ANYDATA_TNAME:
-            case Constants.Types.BallerinaArrayTypes.OPTIONAL_ANYDATA_TYPE:
+            case TypeTags.ANYDATA_TAG:
                 return getAnydataArrayData(bValue);
             default:
-                throw new UnsupportedTypeError("Unsupported data type for array specified for struct parameter");
+                break;
         }
+        throw new UnsupportedTypeError("Unsupported data type for array specified for struct parameter");
     }
 
     private static Object[] getByteOnlyArrayData(Object value) {
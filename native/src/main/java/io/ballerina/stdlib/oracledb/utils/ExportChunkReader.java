@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This class reads the rows of a result set for the `exportQueryToChannel` method as chunks of CSV or
+ * newline-delimited JSON bytes, which are written to the channel by the caller. Each chunk holds the rows fetched
+ * from the database in a single round trip, so that only one round trip's worth of rows is held in memory at a time.
+ * Once all the rows are read, the resources of the query are released and the number of rows is returned.
+ *
+ * @since 1.17.0
+ */
+public class ExportChunkReader {
+
+    private static final int DEFAULT_ROWS_PER_CHUNK = 10;
+
+    private final ResultExporter exporter;
+    private final int rowsPerChunk;
+    private final String sqlQuery;
+    private final Runnable resourceCloser;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8);
+    private BError error;
+    private boolean isClosed;
+
+    private ExportChunkReader(ResultExporter exporter, int rowsPerChunk, String sqlQuery, Runnable resourceCloser) {
+        this.exporter = exporter;
+        this.rowsPerChunk = rowsPerChunk;
+        this.sqlQuery = sqlQuery;
+        this.resourceCloser = resourceCloser;
+    }
+
+    /**
+     * Create a reader of the rows of the given result set.
+     * @param resultSet result set to be exported
+     * @param format `CSV` or `NDJSON`
+     * @param includeHeader whether the column names are written as the first line of a CSV export
+     * @param sqlQuery SQL query which returned the result set
+     * @param resourceCloser closes the resources of the query
+     * @return reader
+     * @throws SQLException if the metadata of the result cannot be read
+     */
+    public static ExportChunkReader forResultSet(ResultSet resultSet, String format, boolean includeHeader,
+                                                 String sqlQuery, Runnable resourceCloser) throws SQLException {
+        // The fetch size of the result set is the number of rows the driver fetches in each round trip
+        int fetchSize = resultSet.getFetchSize();
+        return new ExportChunkReader(new ResultExporter(resultSet, format, includeHeader),
+                fetchSize > 0 ? fetchSize : DEFAULT_ROWS_PER_CHUNK, sqlQuery, resourceCloser);
+    }
+
+    /**
+     * Create a reader which returns the given error to the caller.
+     * @param error error to be returned
+     * @return reader
+     */
+    public static ExportChunkReader failed(BError error) {
+        ExportChunkReader reader = new ExportChunkReader(null, 0, null, () -> { });
+        reader.error = error;
+        return reader;
+    }
+
+    /**
+     * Read the next chunk of the rows.
+     * @return `byte[]` chunk, an error or the number of rows read if all the rows are read
+     */
+    public synchronized Object next() {
+        if (error != null) {
+            BError pendingError = error;
+            error = null;
+            close();
+            return pendingError;
+        }
+        if (isClosed) {
+            return exporter == null ? 0L : exporter.getRowCount();
+        }
+        try {
+            boolean isExported = exporter.writeRows(writer, rowsPerChunk);
+            writer.flush();
+            if (isExported) {
+                close();
+            }
+            if (buffer.size() == 0) {
+                return exporter.getRowCount();
+            }
+            byte[] chunk = buffer.toByteArray();
+            buffer.reset();
+            return ValueCreator.createArrayValue(chunk);
+        } catch (SQLException e) {
+            close();
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while exporting the results of the query: %s. ", sqlQuery));
+        } catch (IOException e) {
+            // The rows are written to memory, hence this is not expected
+            close();
+            return ErrorGenerator.getSQLApplicationError(String.format(
+                    "Error while exporting the results of the query: %s. %s", sqlQuery, e.getMessage()));
+        }
+    }
+
+    /**
+     * Release the resources of the query. The remaining rows are not read.
+     */
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        resourceCloser.run();
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.TypeMismatchError;
+import oracle.jdbc.OracleCallableStatement;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+import oracle.sql.Datum;
+
+import java.math.BigDecimal;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * This class binds and reads PL/SQL index-by tables (associative arrays) as whole arrays, so that a collection is
+ * passed to or from a procedure in a single call. `int[]` and `float[]` values are bound as the primitive arrays
+ * backing the Ballerina values.
+ *
+ * @since 1.17.0
+ */
+public class IndexTableUtils {
+
+    private static final String[] SUPPORTED_TYPES = {"int[]", "float[]", "decimal[]", "string[]"};
+
+    private IndexTableUtils() {}
+
+    /**
+     * Bind a Ballerina `int[]`, `float[]`, `decimal[]` or `string[]` as a PL/SQL index-by table.
+     * @param statement prepared statement of the procedure call
+     * @param index index of the parameter
+     * @param value array value
+     */
+    public static void setIndexTable(PreparedStatement statement, int index, Object value)
+            throws SQLException, DataError {
+        BArray elements = (BArray) value;
+        int length = elements.size();
+        Object arrayData;
+        int elementSqlType = OracleTypes.NUMBER;
+        int elementMaxLength = 0;
+        switch (TypeUtils.getReferredType(elements.getElementType()).getTag()) {
+            case TypeTags.INT_TAG:
+                arrayData = Utils.toLongArray(elements);
+                break;
+            case TypeTags.FLOAT_TAG:
+                arrayData = Utils.toDoubleArray(elements);
+                break;
+            case TypeTags.DECIMAL_TAG:
+                BigDecimal[] decimalValues = new BigDecimal[length];
+                for (int i = 0; i < length; i++) {
+                    decimalValues[i] = ((BDecimal) elements.get(i)).decimalValue();
+                }
+                arrayData = decimalValues;
+                break;
+            case TypeTags.STRING_TAG:
+                String[] stringValues = new String[length];
+                for (int i = 0; i < length; i++) {
+                    stringValues[i] = ((BString) elements.get(i)).getValue();
+                    elementMaxLength = Math.max(elementMaxLength, stringValues[i].length());
+                }
+                arrayData = stringValues;
+                elementSqlType = OracleTypes.VARCHAR;
+                elementMaxLength = Math.max(elementMaxLength, 1);
+                break;
+            default:
+                throw new DataError(String.format("Unsupported element type '%s' of the PL/SQL index-by table " +
+                        "parameter at index %d. Only int, float, decimal and string elements are supported.",
+                        elements.getElementType(), index));
+        }
+        statement.unwrap(OraclePreparedStatement.class).setPlsqlIndexTable(index, arrayData, Math.max(length, 1),
+                length, elementSqlType, elementMaxLength);
+    }
+
+    /**
+     * Register a `PlsqlIndexTableOutParameter` as a PL/SQL index-by table out parameter.
+     * @param statement callable statement of the procedure call
+     * @param index index of the parameter
+     * @param outParameter `PlsqlIndexTableOutParameter` object
+     */
+    public static void registerOutParameter(CallableStatement statement, int index, BObject outParameter)
+            throws SQLException, DataError {
+        String elementType = outParameter.getStringValue(Constants.PlsqlIndexTable.ELEMENT_TYPE).getValue();
+        long maxLength = outParameter.getIntValue(Constants.PlsqlIndexTable.MAX_LENGTH);
+        long elementMaxLength = outParameter.getIntValue(Constants.PlsqlIndexTable.ELEMENT_MAX_LENGTH);
+        if (maxLength <= 0 || maxLength > Integer.MAX_VALUE) {
+            throw new DataError(String.format("The 'maxLength' of the PL/SQL index-by table out parameter at index " +
+                    "%d should be a positive number, but found %d.", index, maxLength));
+        }
+        boolean isVarchar = Constants.PlsqlIndexTable.VARCHAR2.equals(elementType);
+        if (isVarchar && (elementMaxLength <= 0 || elementMaxLength > Integer.MAX_VALUE)) {
+            throw new DataError(String.format("The 'elementMaxLength' of the PL/SQL index-by table out parameter at " +
+                    "index %d should be a positive number, but found %d.", index, elementMaxLength));
+        }
+        statement.unwrap(OracleCallableStatement.class).registerIndexTableOutParameter(index, (int) maxLength,
+                isVarchar ? OracleTypes.VARCHAR : OracleTypes.NUMBER, isVarchar ? (int) elementMaxLength : 0);
+    }
+
+    /**
+     * Read a PL/SQL index-by table out parameter.
+     * @param statement callable statement of the procedure call
+     * @param index index of the parameter
+     * @return elements of the table, which are converted by `convert` once the target type is known
+     */
+    public static Datum[] getIndexTable(CallableStatement statement, int index) throws SQLException {
+        return statement.unwrap(OracleCallableStatement.class).getOraclePlsqlIndexTable(index);
+    }
+
+    /**
+     * Convert the elements of a PL/SQL index-by table to a Ballerina array.
+     * @param value elements returned by `getIndexTable`
+     * @param ballerinaType `int[]`, `float[]`, `decimal[]` or `string[]` type
+     * @return Ballerina array or null
+     */
+    public static BArray convert(Object value, Type ballerinaType) throws DataError {
+        if (value == null) {
+            return null;
+        }
+        Type arrayType = TypeUtils.getReferredType(ballerinaType);
+        if (arrayType.getTag() != TypeTags.ARRAY_TAG) {
+            throw new TypeMismatchError("PL/SQL index-by table", ballerinaType.getName(), SUPPORTED_TYPES);
+        }
+        Datum[] elements = (Datum[]) value;
+        try {
+            switch (TypeUtils.getReferredType(((ArrayType) arrayType).getElementType()).getTag()) {
+                case TypeTags.INT_TAG:
+                    long[] intValues = new long[elements.length];
+                    for (int i = 0; i < elements.length; i++) {
+                        intValues[i] = getElement(elements, i).longValue();
+                    }
+                    return ValueCreator.createArrayValue(intValues);
+                case TypeTags.FLOAT_TAG:
+                    double[] floatValues = new double[elements.length];
+                    for (int i = 0; i < elements.length; i++) {
+                        floatValues[i] = getElement(elements, i).doubleValue();
+                    }
+                    return ValueCreator.createArrayValue(floatValues);
+                case TypeTags.DECIMAL_TAG:
+                    BArray decimalValues = ValueCreator.createArrayValue(
+                            io.ballerina.stdlib.sql.utils.Utils.DECIMAL_ARRAY);
+                    for (int i = 0; i < elements.length; i++) {
+                        decimalValues.add(i, ValueCreator.createDecimalValue(getElement(elements, i)
+                                .bigDecimalValue()));
+                    }
+                    return decimalValues;
+                case TypeTags.STRING_TAG:
+                    BString[] stringValues = new BString[elements.length];
+                    for (int i = 0; i < elements.length; i++) {
+                        stringValues[i] = StringUtils.fromString(getElement(elements, i).stringValue());
+                    }
+                    return ValueCreator.createArrayValue(stringValues);
+                default:
+                    throw new TypeMismatchError("PL/SQL index-by table", ballerinaType.getName(), SUPPORTED_TYPES);
+            }
+        } catch (SQLException e) {
+            throw new DataError(String.format("Error while reading the PL/SQL index-by table: %s", e.getMessage()));
+        }
+    }
+
+    private static Datum getElement(Datum[] elements, int index) throws DataError {
+        if (elements[index] == null) {
+            throw new DataError(String.format("Element %d of the PL/SQL index-by table is null, which cannot be " +
+                    "assigned to an element of the array.", index));
+        }
+        return elements[index];
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+import oracle.sql.INTERVALDS;
+import oracle.sql.INTERVALYM;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * This class encodes and decodes the `IntervalYearToMonth` and `IntervalDayToSecond` records directly to and from
+ * the internal byte format of the Oracle INTERVAL YEAR TO MONTH and INTERVAL DAY TO SECOND types.
+ * <p>
+ * Each integral field is stored with an offset so that negative values sort before positive ones: the years, days
+ * and fractional seconds (in nanoseconds) as 4-byte big-endian integers offset by 2^31, and the months, hours,
+ * minutes and seconds as single bytes offset by 60. A negative interval stores every field as negative.
+ *
+ * @since 1.17.0
+ */
+public final class IntervalCodec {
+
+    private static final int YEAR_TO_MONTH_LENGTH = 5;
+    private static final int DAY_TO_SECOND_LENGTH = 11;
+    private static final int INT_OFFSET = 0x80000000;
+    private static final int BYTE_OFFSET = 60;
+    private static final int NANOS_SCALE = 9;
+    private static final BigInteger NANOS_PER_SECOND = BigInteger.valueOf(1_000_000_000L);
+
+    private static final BString YEARS = fromString(Constants.Types.IntervalYearToMonth.YEARS);
+    private static final BString MONTHS = fromString(Constants.Types.IntervalYearToMonth.MONTHS);
+    private static final BString YEAR_TO_MONTH_SIGN = fromString(Constants.Types.IntervalYearToMonth.SIGN);
+    private static final BString DAYS = fromString(Constants.Types.IntervalDayToSecond.DAYS);
+    private static final BString HOURS = fromString(Constants.Types.IntervalDayToSecond.HOURS);
+    private static final BString MINUTES = fromString(Constants.Types.IntervalDayToSecond.MINUTES);
+    private static final BString SECONDS = fromString(Constants.Types.IntervalDayToSecond.SECONDS);
+    private static final BString DAY_TO_SECOND_SIGN = fromString(Constants.Types.IntervalDayToSecond.SIGN);
+
+    private IntervalCodec() {}
+
+    /**
+     * Encode an `IntervalYearToMonth` record as an Oracle INTERVAL YEAR TO MONTH value.
+     *
+     * @param value `IntervalYearToMonth` record
+     * @return INTERVALYM value
+     * @throws DataError if the interval does not fit in an INTERVAL YEAR TO MONTH
+     */
+    public static INTERVALYM encodeIntervalYearToMonth(BMap<BString, Object> value) throws DataError {
+        long totalMonths = getLongField(value, YEARS) * 12L + getLongField(value, MONTHS);
+        int sign = getSign(value, YEAR_TO_MONTH_SIGN);
+        int years = toInt(totalMonths / 12L, Constants.Types.OracleDbTypes.INTERVAL_YEAR_TO_MONTH);
+        int months = (int) (totalMonths % 12L);
+
+        byte[] bytes = new byte[YEAR_TO_MONTH_LENGTH];
+        writeInt(bytes, 0, sign * years);
+        bytes[4] = (byte) (sign * months + BYTE_OFFSET);
+        return new INTERVALYM(bytes);
+    }
+
+    /**
+     * Encode an `IntervalDayToSecond` record as an Oracle INTERVAL DAY TO SECOND value. The seconds are kept at
+     * nanosecond precision.
+     *
+     * @param value `IntervalDayToSecond` record
+     * @return INTERVALDS value
+     * @throws DataError if the interval does not fit in an INTERVAL DAY TO SECOND
+     */
+    public static INTERVALDS encodeIntervalDayToSecond(BMap<BString, Object> value) throws DataError {
+        long wholeSeconds = ((getLongField(value, DAYS) * 24L + getLongField(value, HOURS)) * 60L
+                + getLongField(value, MINUTES)) * 60L;
+        Object seconds = value.get(SECONDS);
+        BigInteger totalNanos = BigInteger.valueOf(wholeSeconds).multiply(NANOS_PER_SECOND);
+        if (seconds != null) {
+            totalNanos = totalNanos.add(((BDecimal) seconds).decimalValue().movePointRight(NANOS_SCALE)
+                    .setScale(0, RoundingMode.HALF_UP).toBigIntegerExact());
+        }
+        BigInteger[] secondsAndNanos = totalNanos.divideAndRemainder(NANOS_PER_SECOND);
+        long totalSeconds = secondsAndNanos[0].longValue();
+        int sign = getSign(value, DAY_TO_SECOND_SIGN);
+
+        byte[] bytes = new byte[DAY_TO_SECOND_LENGTH];
+        writeInt(bytes, 0, sign * toInt(totalSeconds / 86400L, Constants.Types.OracleDbTypes.INTERVAL_DAY_TO_SECOND));
+        bytes[4] = (byte) (sign * (int) (totalSeconds % 86400L / 3600L) + BYTE_OFFSET);
+        bytes[5] = (byte) (sign * (int) (totalSeconds % 3600L / 60L) + BYTE_OFFSET);
+        bytes[6] = (byte) (sign * (int) (totalSeconds % 60L) + BYTE_OFFSET);
+        writeInt(bytes, 7, sign * secondsAndNanos[1].intValue());
+        return new INTERVALDS(bytes);
+    }
+
+    /**
+     * Decode the bytes of an Oracle INTERVAL YEAR TO MONTH value into an `IntervalYearToMonth` record.
+     *
+     * @param bytes INTERVALYM bytes
+     * @return `IntervalYearToMonth` record
+     */
+    public static BMap<BString, Object> decodeIntervalYearToMonth(byte[] bytes) {
+        int years = readInt(bytes, 0);
+        int months = (bytes[4] & 0xFF) - BYTE_OFFSET;
+        boolean isNegative = years < 0 || months < 0;
+
+        BMap<BString, Object> interval = ValueCreator.createRecordValue(RecordTypes.INTERVAL_YEAR_TO_MONTH);
+        interval.put(YEARS, (long) Math.abs(years));
+        interval.put(MONTHS, (long) Math.abs(months));
+        interval.put(YEAR_TO_MONTH_SIGN, isNegative ? -1L : 1L);
+        return interval;
+    }
+
+    /**
+     * Decode the bytes of an Oracle INTERVAL DAY TO SECOND value into an `IntervalDayToSecond` record.
+     *
+     * @param bytes INTERVALDS bytes
+     * @return `IntervalDayToSecond` record
+     */
+    public static BMap<BString, Object> decodeIntervalDayToSecond(byte[] bytes) {
+        int days = readInt(bytes, 0);
+        int hours = (bytes[4] & 0xFF) - BYTE_OFFSET;
+        int minutes = (bytes[5] & 0xFF) - BYTE_OFFSET;
+        int seconds = (bytes[6] & 0xFF) - BYTE_OFFSET;
+        int nanos = readInt(bytes, 7);
+        boolean isNegative = days < 0 || hours < 0 || minutes < 0 || seconds < 0 || nanos < 0;
+
+        BigDecimal secondsValue = nanos == 0 ? BigDecimal.valueOf(Math.abs(seconds)) :
+                BigDecimal.valueOf(Math.abs(seconds) * 1_000_000_000L + Math.abs(nanos), NANOS_SCALE)
+                        .stripTrailingZeros();
+        BMap<BString, Object> interval = ValueCreator.createRecordValue(RecordTypes.INTERVAL_DAY_TO_SECOND);
+        interval.put(DAYS, (long) Math.abs(days));
+        interval.put(HOURS, (long) Math.abs(hours));
+        interval.put(MINUTES, (long) Math.abs(minutes));
+        interval.put(SECONDS, ValueCreator.createDecimalValue(secondsValue));
+        interval.put(DAY_TO_SECOND_SIGN, isNegative ? -1L : 1L);
+        return interval;
+    }
+
+    private static long getLongField(BMap<BString, Object> value, BString key) {
+        Object field = value.get(key);
+        return field == null ? 0L : (Long) field;
+    }
+
+    private static int getSign(BMap<BString, Object> value, BString key) {
+        return (Long) value.get(key) == -1L ? -1 : 1;
+    }
+
+    private static int toInt(long value, String sqlType) throws DataError {
+        if (value > Integer.MAX_VALUE) {
+            throw new DataError(String.format("The value is too large to be converted to %s.", sqlType));
+        }
+        return (int) value;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        int encoded = value + INT_OFFSET;
+        bytes[offset] = (byte) (encoded >>> 24);
+        bytes[offset + 1] = (byte) (encoded >>> 16);
+        bytes[offset + 2] = (byte) (encoded >>> 8);
+        bytes[offset + 3] = (byte) encoded;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        int encoded = ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+        return encoded - INT_OFFSET;
+    }
+
+    /**
+     * Record types of the interval values, resolved once the module is initialised.
+     */
+    private static final class RecordTypes {
+        private static final RecordType INTERVAL_YEAR_TO_MONTH = (RecordType) ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), Constants.Types.INTERVAL_YEAR_TO_MONTH_RECORD).getType();
+        private static final RecordType INTERVAL_DAY_TO_SECOND = (RecordType) ValueCreator.createRecordValue(
+                ModuleUtils.getModule(), Constants.Types.INTERVAL_DAY_TO_SECOND_RECORD).getType();
+    }
+}
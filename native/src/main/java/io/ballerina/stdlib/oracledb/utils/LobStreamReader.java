@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OracleBfile;
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OracleClob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * This class reads a BLOB, CLOB or BFILE value on demand, one chunk at a time, for the stream returned from the
+ * `queryBlob`, `queryClob` and `readBFile` methods. The chunks of a BLOB or CLOB are sized to the chunk size of the
+ * LOB, so that each read maps to whole LOB chunks on the server. The value stays valid until the stream is fully
+ * read or closed, after which the resources of the query are released.
+ *
+ * @since 1.17.0
+ */
+public class LobStreamReader {
+
+    private static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final InputStream binaryStream;
+    private final Reader characterStream;
+    private final int chunkSize;
+    private final String sqlQuery;
+    private final Runnable resourceCloser;
+    private BError error;
+    private boolean isClosed;
+
+    private LobStreamReader(InputStream binaryStream, Reader characterStream, int chunkSize, String sqlQuery,
+                            Runnable resourceCloser) {
+        this.binaryStream = binaryStream;
+        this.characterStream = characterStream;
+        this.chunkSize = chunkSize;
+        this.sqlQuery = sqlQuery;
+        this.resourceCloser = resourceCloser;
+    }
+
+    /**
+     * Create a reader for the given BLOB. A null BLOB results in an empty stream.
+     * @param blob BLOB to be read
+     * @param sqlQuery SQL query which returned the BLOB
+     * @param resourceCloser closes the resources of the query
+     * @return reader
+     */
+    public static LobStreamReader forBlob(Blob blob, String sqlQuery, Runnable resourceCloser) throws SQLException {
+        if (blob == null) {
+            return new LobStreamReader(null, null, 0, sqlQuery, resourceCloser);
+        }
+        int chunkSize = blob instanceof OracleBlob ? ((OracleBlob) blob).getChunkSize() : DEFAULT_CHUNK_SIZE;
+        return new LobStreamReader(blob.getBinaryStream(), null, getChunkSize(chunkSize), sqlQuery,
+                resourceCloser);
+    }
+
+    /**
+     * Create a reader for the given CLOB. A null CLOB results in an empty stream.
+     * @param clob CLOB to be read
+     * @param sqlQuery SQL query which returned the CLOB
+     * @param resourceCloser closes the resources of the query
+     * @return reader
+     */
+    public static LobStreamReader forClob(Clob clob, String sqlQuery, Runnable resourceCloser) throws SQLException {
+        if (clob == null) {
+            return new LobStreamReader(null, null, 0, sqlQuery, resourceCloser);
+        }
+        // The chunk size of a CLOB is reported in bytes, while a CLOB stores two bytes per character in the
+        // AL16UTF16 encoding used for CLOBs of a multibyte database character set
+        int chunkSize = clob instanceof OracleClob ? ((OracleClob) clob).getChunkSize() / 2 : DEFAULT_CHUNK_SIZE;
+        return new LobStreamReader(null, clob.getCharacterStream(), getChunkSize(chunkSize), sqlQuery,
+                resourceCloser);
+    }
+
+    /**
+     * Create a reader for the given BFILE, which is opened here and closed along with the reader. As a BFILE has no
+     * chunk size, it is read in chunks of the given size.
+     * @param bfile BFILE to be read
+     * @param chunkSize size of the chunks in bytes
+     * @param sqlQuery SQL query which returned the BFILE
+     * @param resourceCloser closes the resources of the query
+     * @return reader
+     */
+    public static LobStreamReader forBfile(OracleBfile bfile, int chunkSize, String sqlQuery,
+                                           Runnable resourceCloser) throws SQLException {
+        if (bfile == null) {
+            return new LobStreamReader(null, null, 0, sqlQuery, resourceCloser);
+        }
+        bfile.openFile();
+        return new LobStreamReader(bfile.getBinaryStream(), null, getChunkSize(chunkSize), sqlQuery, () -> {
+            try {
+                bfile.closeFile();
+            } catch (SQLException ignored) {
+                // The file is closed along with the session if it could not be closed here
+            } finally {
+                resourceCloser.run();
+            }
+        });
+    }
+
+    /**
+     * Create a reader which returns the given error to the consumer of the stream.
+     * @param error error to be returned
+     * @return reader
+     */
+    public static LobStreamReader failed(BError error) {
+        LobStreamReader reader = new LobStreamReader(null, null, 0, null, () -> { });
+        reader.error = error;
+        return reader;
+    }
+
+    /**
+     * Read the next chunk of the BLOB.
+     * @return `byte[]` chunk, an error or null if the BLOB is fully read
+     */
+    public synchronized Object nextBytes() {
+        if (error != null || isClosed || binaryStream == null) {
+            return takeErrorAndClose();
+        }
+        try {
+            byte[] chunk = new byte[chunkSize];
+            int length = binaryStream.readNBytes(chunk, 0, chunkSize);
+            if (length == 0) {
+                close();
+                return null;
+            }
+            return ValueCreator.createArrayValue(length == chunkSize ? chunk : Arrays.copyOf(chunk, length));
+        } catch (IOException e) {
+            error = getReadError(e);
+            return takeErrorAndClose();
+        }
+    }
+
+    /**
+     * Read the next chunk of the CLOB.
+     * @return `string` chunk, an error or null if the CLOB is fully read
+     */
+    public synchronized Object nextCharacters() {
+        if (error != null || isClosed || characterStream == null) {
+            return takeErrorAndClose();
+        }
+        try {
+            char[] chunk = new char[chunkSize];
+            int length = 0;
+            while (length < chunkSize) {
+                int read = characterStream.read(chunk, length, chunkSize - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            if (length == 0) {
+                close();
+                return null;
+            }
+            return StringUtils.fromString(new String(chunk, 0, length));
+        } catch (IOException e) {
+            error = getReadError(e);
+            return takeErrorAndClose();
+        }
+    }
+
+    /**
+     * Release the resources of the query. The remaining chunks of the LOB are not read.
+     */
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            if (binaryStream != null) {
+                binaryStream.close();
+            }
+            if (characterStream != null) {
+                characterStream.close();
+            }
+        } catch (IOException ignored) {
+            // The LOB is freed along with the result set
+        }
+        resourceCloser.run();
+    }
+
+    private Object takeErrorAndClose() {
+        BError pendingError = error;
+        error = null;
+        close();
+        return pendingError;
+    }
+
+    private BError getReadError(IOException e) {
+        if (e.getCause() instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) e.getCause(),
+                    String.format("Error while reading the LOB returned from SQL query: %s. ", sqlQuery));
+        }
+        return ErrorGenerator.getSQLApplicationError(String.format(
+                "Error while reading the LOB returned from SQL query: %s. %s", sqlQuery, e.getMessage()));
+    }
+
+    private static int getChunkSize(int chunkSize) {
+        return chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+}
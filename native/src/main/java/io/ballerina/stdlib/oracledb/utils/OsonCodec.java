@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
+import oracle.sql.json.OracleJsonFactory;
+import oracle.sql.json.OracleJsonGenerator;
+import oracle.sql.json.OracleJsonParser;
+import oracle.sql.json.OracleJsonValue;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * This class converts Ballerina `json` values to and from OSON, the binary JSON format of Oracle Database, so that
+ * JSON columns are neither serialized to nor parsed from text.
+ *
+ * @since 1.17.0
+ */
+public class OsonCodec {
+
+    private static final OracleJsonFactory JSON_FACTORY = new OracleJsonFactory();
+    private static final MapType JSON_MAP_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_JSON);
+    private static final ArrayType JSON_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON);
+
+    private OsonCodec() {}
+
+    /**
+     * Decode the JSON value read by the given parser into a Ballerina `json` value. Objects are created as
+     * `map<json>` values and arrays as `json[]` values.
+     * @param parser parser positioned before the value
+     * @return `json` value
+     */
+    public static Object decode(OracleJsonParser parser) {
+        return decodeValue(parser, parser.next());
+    }
+
+    /**
+     * Encode a Ballerina `json` value as OSON.
+     * @param value `json` value
+     * @return JSON value backed by the OSON bytes, which the driver sends to the database as is
+     * @throws DataError if the value contains members which are not `json`
+     */
+    public static OracleJsonValue encode(Object value) throws DataError {
+        ByteArrayOutputStream oson = new ByteArrayOutputStream();
+        try (OracleJsonGenerator generator = JSON_FACTORY.createJsonBinaryGenerator(oson)) {
+            encodeValue(generator, value);
+        }
+        return JSON_FACTORY.createJsonBinaryValue(ByteBuffer.wrap(oson.toByteArray()));
+    }
+
+    private static Object decodeValue(OracleJsonParser parser, OracleJsonParser.Event event) {
+        switch (event) {
+            case START_OBJECT:
+                BMap<BString, Object> object = ValueCreator.createMapValue(JSON_MAP_TYPE);
+                while (parser.next() != OracleJsonParser.Event.END_OBJECT) {
+                    BString key = fromString(parser.getString());
+                    object.put(key, decodeValue(parser, parser.next()));
+                }
+                return object;
+            case START_ARRAY:
+                BArray array = ValueCreator.createArrayValue(JSON_ARRAY_TYPE);
+                OracleJsonParser.Event elementEvent;
+                while ((elementEvent = parser.next()) != OracleJsonParser.Event.END_ARRAY) {
+                    array.append(decodeValue(parser, elementEvent));
+                }
+                return array;
+            case VALUE_STRING:
+                return fromString(parser.getString());
+            case VALUE_DECIMAL:
+                if (parser.isIntegralNumber()) {
+                    BigDecimal number = parser.getBigDecimal();
+                    try {
+                        return number.longValueExact();
+                    } catch (ArithmeticException e) {
+                        // Integers that do not fit in an `int` are kept as `decimal` values
+                        return ValueCreator.createDecimalValue(number);
+                    }
+                }
+                return ValueCreator.createDecimalValue(parser.getBigDecimal());
+            case VALUE_DOUBLE:
+                return parser.getDouble();
+            case VALUE_FLOAT:
+                return (double) parser.getFloat();
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_NULL:
+                return null;
+            default:
+                // Binary, date, timestamp and interval values are converted to their textual form
+                return fromString(parser.getString());
+        }
+    }
+
+    private static void encodeValue(OracleJsonGenerator generator, Object value) throws DataError {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof BString) {
+            generator.write(((BString) value).getValue());
+        } else if (value instanceof Long) {
+            generator.write((long) value);
+        } else if (value instanceof Double) {
+            generator.write((double) value);
+        } else if (value instanceof BDecimal) {
+            generator.write(((BDecimal) value).decimalValue());
+        } else if (value instanceof Boolean) {
+            generator.write((boolean) value);
+        } else if (value instanceof Integer || value instanceof Byte) {
+            generator.write(((Number) value).longValue());
+        } else if (value instanceof BMap) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> member : ((BMap<?, ?>) value).entrySet()) {
+                generator.writeKey(member.getKey().toString());
+                encodeValue(generator, member.getValue());
+            }
+            generator.writeEnd();
+        } else if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            generator.writeStartArray();
+            for (int i = 0; i < array.size(); i++) {
+                encodeValue(generator, array.get(i));
+            }
+            generator.writeEnd();
+        } else {
+            throw new UnsupportedTypeError(String.format("Value of type '%s' cannot be converted to JSON.",
+                    value.getClass().getSimpleName()));
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.oracledb.utils;
 
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
 
 /**
@@ -36,6 +37,10 @@ public class ProcedureCallResultUtils {
      * @return next query result
      */
     public static Object getNextQueryResult(BObject customResultIterator, BObject callResult) {
+        if (callResult.getNativeData(Constants.NativeData.ASYNC_CALL_RESULT) != null) {
+            // An asynchronous call returns only its execution result
+            return false;
+        }
         return io.ballerina.stdlib.sql.utils.ProcedureCallResultUtils.getNextQueryResult(
                 callResult, OracleDBResultParameterProcessor.getInstance());
     }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.sql.exception.ApplicationError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * This class reads the rows of a REF CURSOR returned from a procedure call on demand for the stream returned from
+ * `RefCursorOutParameter.get`. The rows are fetched from the cursor in batches of the fetch size as the stream is
+ * consumed, and the cursor is closed once the stream is fully read or closed. The rows are converted with the column
+ * definitions and the result parameter processor used by `query`.
+ *
+ * @since 1.17.0
+ */
+public class RefCursorReader {
+
+    private final ResultSet resultSet;
+    private final RecordType recordType;
+    private final List<ColumnDefinition> columnDefinitions;
+    private BError error;
+    private boolean isClosed;
+
+    private RefCursorReader(ResultSet resultSet, RecordType recordType, List<ColumnDefinition> columnDefinitions,
+                            BError error) {
+        this.resultSet = resultSet;
+        this.recordType = recordType;
+        this.columnDefinitions = columnDefinitions;
+        this.error = error;
+        this.isClosed = resultSet == null;
+    }
+
+    /**
+     * Create a reader for the given cursor. A null cursor results in an empty stream.
+     * @param resultSet result set of the cursor
+     * @param recordType effective type of the records to which the rows are converted
+     * @param fetchSize number of rows fetched in each round trip, or a non-positive value for the driver default
+     * @return reader, which returns the error of the cursor on the first read if the cursor cannot be read
+     */
+    public static RefCursorReader create(ResultSet resultSet, RecordType recordType, long fetchSize) {
+        if (resultSet == null) {
+            return new RefCursorReader(null, null, null, null);
+        }
+        BError fetchSizeError = Utils.validateFetchSize(fetchSize);
+        if (fetchSizeError != null) {
+            closeQuietly(resultSet);
+            return new RefCursorReader(null, null, null, fetchSizeError);
+        }
+        try {
+            if (fetchSize > 0) {
+                resultSet.setFetchSize((int) fetchSize);
+            }
+            return new RefCursorReader(resultSet, recordType,
+                    io.ballerina.stdlib.sql.utils.Utils.getColumnDefinitions(resultSet, recordType), null);
+        } catch (SQLException e) {
+            closeQuietly(resultSet);
+            return new RefCursorReader(null, null, null, ErrorGenerator.getSQLDatabaseError(e,
+                    "Error while reading the REF CURSOR out parameter. "));
+        } catch (ApplicationError e) {
+            closeQuietly(resultSet);
+            return new RefCursorReader(null, null, null, ErrorGenerator.getSQLApplicationError(e.getMessage()));
+        }
+    }
+
+    /**
+     * Read the next row of the cursor.
+     * @return record, an error or nil if all the rows are read
+     */
+    public synchronized Object next() {
+        if (error != null) {
+            BError cursorError = error;
+            error = null;
+            return cursorError;
+        }
+        if (isClosed) {
+            return null;
+        }
+        try {
+            if (resultSet.next()) {
+                BMap<BString, Object> record = io.ballerina.stdlib.sql.utils.Utils.createBallerinaRecord(recordType,
+                        OracleDBResultParameterProcessor.getInstance(), resultSet, columnDefinitions);
+                if (recordType.isReadOnly()) {
+                    record.freezeDirect();
+                }
+                return record;
+            }
+            close();
+            return null;
+        } catch (SQLException e) {
+            close();
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while reading the REF CURSOR out parameter. ");
+        } catch (DataError e) {
+            close();
+            return ErrorGenerator.getSQLApplicationError(e.getMessage());
+        } catch (BError e) {
+            close();
+            return e;
+        }
+    }
+
+    /**
+     * Close the cursor. Closing the cursor more than once has no effect.
+     */
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        closeQuietly(resultSet);
+    }
+
+    private static void closeQuietly(ResultSet resultSet) {
+        try {
+            resultSet.close();
+        } catch (SQLException ignored) {
+            // The cursor is released along with the statement of the procedure call
+        }
+    }
+}
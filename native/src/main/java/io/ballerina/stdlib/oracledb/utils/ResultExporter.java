@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.stdlib.oracledb.Constants;
+import oracle.jdbc.OracleTypes;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+/**
+ * This class writes the rows of a result set as CSV or newline-delimited JSON for the `exportQuery` and
+ * `exportQueryToChannel` methods. The values are read from the result set and written as text without creating
+ * Ballerina values. The reader of each column is chosen once from the metadata of the result.
+ *
+ * @since 1.17.0
+ */
+public class ResultExporter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final ResultSet resultSet;
+    private final String[] columnNames;
+    private final ColumnReader[] readers;
+    private final boolean[] isQuoted;
+    private final boolean isJson;
+    private boolean isHeaderPending;
+    private long rowCount;
+
+    /**
+     * Create an exporter of the rows of the given result set.
+     * @param resultSet result set to be exported
+     * @param format `CSV` or `NDJSON`
+     * @param includeHeader whether the column names are written as the first line of a CSV export
+     * @throws SQLException if the metadata of the result cannot be read
+     */
+    public ResultExporter(ResultSet resultSet, String format, boolean includeHeader) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        this.resultSet = resultSet;
+        this.columnNames = new String[columnCount];
+        this.readers = new ColumnReader[columnCount];
+        this.isQuoted = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            int columnType = metaData.getColumnType(i + 1);
+            columnNames[i] = metaData.getColumnLabel(i + 1);
+            readers[i] = getReader(columnType);
+            isQuoted[i] = !isNumber(columnType) && columnType != Types.BOOLEAN;
+        }
+        this.isJson = Constants.ExportFormat.NDJSON.equals(format);
+        this.isHeaderPending = !isJson && includeHeader;
+    }
+
+    /**
+     * Write all the rows of the given result set.
+     * @param resultSet result set to be exported
+     * @param writer writer to which the rows are written
+     * @param format `CSV` or `NDJSON`
+     * @param includeHeader whether the column names are written as the first line of a CSV export
+     * @return number of rows written
+     * @throws SQLException if the rows cannot be read
+     * @throws IOException if the rows cannot be written
+     */
+    public static long export(ResultSet resultSet, Writer writer, String format, boolean includeHeader)
+            throws SQLException, IOException {
+        ResultExporter exporter = new ResultExporter(resultSet, format, includeHeader);
+        exporter.writeRows(writer, Long.MAX_VALUE);
+        return exporter.getRowCount();
+    }
+
+    /**
+     * Write the next rows of the result set, along with the header if it is not written yet.
+     * @param writer writer to which the rows are written
+     * @param maxRows maximum number of rows to be written
+     * @return true if all the rows of the result set are written
+     * @throws SQLException if the rows cannot be read
+     * @throws IOException if the rows cannot be written
+     */
+    public boolean writeRows(Writer writer, long maxRows) throws SQLException, IOException {
+        int columnCount = columnNames.length;
+        if (isHeaderPending) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvValue(writer, columnNames[i]);
+            }
+            writer.write('\n');
+            isHeaderPending = false;
+        }
+        for (long written = 0; written < maxRows; written++) {
+            if (!resultSet.next()) {
+                return true;
+            }
+            if (isJson) {
+                writer.write('{');
+            }
+            for (int i = 0; i < columnCount; i++) {
+                String value = readers[i].read(resultSet, i + 1);
+                if (isJson) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writeJsonString(writer, columnNames[i]);
+                    writer.write(':');
+                    writeJsonValue(writer, value, isQuoted[i]);
+                } else {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    if (value != null) {
+                        writeCsvValue(writer, value);
+                    }
+                }
+            }
+            writer.write(isJson ? "}\n" : "\n");
+            rowCount++;
+        }
+        return false;
+    }
+
+    /**
+     * Return the number of rows written so far.
+     * @return number of rows
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private static ColumnReader getReader(int columnType) {
+        if (isNumber(columnType)) {
+            return ResultSet::getString;
+        }
+        switch (columnType) {
+            case Types.BOOLEAN:
+                return (resultSet, column) -> {
+                    boolean value = resultSet.getBoolean(column);
+                    return resultSet.wasNull() ? null : String.valueOf(value);
+                };
+            case Types.DATE:
+                // An Oracle DATE holds the time of the day as well, which is dropped by getDate
+            case Types.TIMESTAMP:
+                return (resultSet, column) -> {
+                    Timestamp value = resultSet.getTimestamp(column);
+                    return value == null ? null : value.toLocalDateTime().toString();
+                };
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+            case OracleTypes.TIMESTAMPTZ:
+                return (resultSet, column) -> {
+                    OffsetDateTime value = resultSet.getObject(column, OffsetDateTime.class);
+                    return value == null ? null : value.toString();
+                };
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return (resultSet, column) -> {
+                    byte[] value = resultSet.getBytes(column);
+                    return value == null ? null : Base64.getEncoder().encodeToString(value);
+                };
+            default:
+                return ResultSet::getString;
+        }
+    }
+
+    private static boolean isNumber(int columnType) {
+        switch (columnType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+            case Types.BIGINT:
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case OracleTypes.BINARY_FLOAT:
+            case OracleTypes.BINARY_DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static void writeJsonValue(Writer writer, String value, boolean isQuoted) throws IOException {
+        if (value == null) {
+            writer.write("null");
+        } else if (isQuoted || !isFiniteNumber(value)) {
+            // NaN and Infinity of binary floating point columns are not valid JSON numbers
+            writeJsonString(writer, value);
+        } else {
+            writer.write(value);
+        }
+    }
+
+    private static boolean isFiniteNumber(String value) {
+        return !value.isEmpty() && !value.contains("Inf") && !value.contains("NaN");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX_DIGITS[c >> 4]);
+                        writer.write(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    private interface ColumnReader {
+        String read(ResultSet resultSet, int column) throws SQLException;
+    }
+}
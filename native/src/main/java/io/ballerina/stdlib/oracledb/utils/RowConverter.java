@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.TypeMismatchError;
+import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OracleRow;
+import oracle.jdbc.OracleTypes;
+
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Map;
+
+/**
+ * This class converts the rows published by the reactive extensions of the Oracle driver to Ballerina records. The
+ * converters of the columns are resolved once from the result set metadata and reused for every row.
+ *
+ * @since 1.17.0
+ */
+public class RowConverter {
+
+    private final RecordType recordType;
+    private final BString[] fieldNames;
+    private final ColumnConverter[] converters;
+
+    private RowConverter(RecordType recordType, BString[] fieldNames, ColumnConverter[] converters) {
+        this.recordType = recordType;
+        this.fieldNames = fieldNames;
+        this.converters = converters;
+    }
+
+    /**
+     * Converts the value of a column of a row to a Ballerina value.
+     */
+    @FunctionalInterface
+    private interface ColumnConverter {
+        Object convert(OracleRow row, int columnIndex) throws SQLException;
+    }
+
+    /**
+     * Create the converter of the rows of a result.
+     * @param metaData metadata of the result set
+     * @param rowType type of the records to which the rows are converted, which may be a readonly intersection
+     * @return row converter
+     * @throws SQLException if the metadata cannot be read
+     * @throws DataError if a column cannot be mapped to a field of the record
+     */
+    public static RowConverter create(ResultSetMetaData metaData, Type rowType) throws SQLException, DataError {
+        RecordType recordType = (RecordType) TypeUtils.getImpliedType(rowType);
+        int columnCount = metaData.getColumnCount();
+        BString[] fieldNames = new BString[columnCount];
+        ColumnConverter[] converters = new ColumnConverter[columnCount];
+        Map<String, Field> fields = recordType.getFields();
+        for (int i = 1; i <= columnCount; i++) {
+            String columnName = metaData.getColumnLabel(i);
+            Field field = getField(fields, columnName);
+            Type targetType;
+            if (field != null) {
+                columnName = field.getFieldName();
+                targetType = field.getFieldType();
+            } else if (!recordType.isSealed()) {
+                targetType = recordType.getRestFieldType();
+            } else {
+                throw new TypeMismatchError(String.format("No mapping field found for SQL table column '%s' in " +
+                        "the record type '%s'.", columnName, recordType.getName()));
+            }
+            fieldNames[i - 1] = StringUtils.fromString(columnName);
+            converters[i - 1] = getConverter(columnName, targetType, metaData.getColumnType(i));
+        }
+        return new RowConverter(recordType, fieldNames, converters);
+    }
+
+    /**
+     * Convert a row to a Ballerina record.
+     * @param row row published by the driver, which is valid only during this call
+     * @return Ballerina record
+     */
+    public BMap<BString, Object> convert(OracleRow row) {
+        BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName());
+        for (int i = 0; i < converters.length; i++) {
+            try {
+                record.put(fieldNames[i], converters[i].convert(row, i + 1));
+            } catch (SQLException e) {
+                throw ErrorGenerator.getSQLDatabaseError(e, String.format("Error while reading the column '%s'. ",
+                        fieldNames[i].getValue()));
+            }
+        }
+        if (recordType.isReadOnly()) {
+            record.freezeDirect();
+        }
+        return record;
+    }
+
+    private static Field getField(Map<String, Field> fields, String columnName) {
+        Field field = fields.get(columnName);
+        if (field != null) {
+            return field;
+        }
+        for (Field recordField : fields.values()) {
+            if (recordField.getFieldName().equalsIgnoreCase(columnName)) {
+                return recordField;
+            }
+        }
+        return null;
+    }
+
+    private static ColumnConverter getConverter(String fieldName, Type fieldType, int sqlType) throws DataError {
+        Type targetType = TypeUtils.getReferredType(fieldType);
+        boolean isNullable = false;
+        if (targetType.getTag() == TypeTags.UNION_TAG) {
+            isNullable = targetType.isNilable();
+            Type memberType = Utils.getNonNullMemberType((UnionType) targetType);
+            if (memberType == null) {
+                // The value of a column is not checked against each member of a union such as `int|string`
+                throw unsupportedFieldError(fieldName, fieldType);
+            }
+            targetType = memberType;
+        }
+        int typeTag = targetType.getTag();
+        if (typeTag == TypeTags.ANYDATA_TAG || typeTag == TypeTags.JSON_TAG) {
+            isNullable = true;
+            typeTag = getDefaultTypeTag(fieldName, sqlType);
+        }
+        ColumnConverter converter = getConverter(fieldName, typeTag, targetType);
+        if (isNullable) {
+            return converter;
+        }
+        return (row, index) -> {
+            Object value = converter.convert(row, index);
+            if (value == null) {
+                throw ErrorGenerator.getSQLApplicationError(String.format(
+                        "Non-nullable field '%s' of the record cannot be assigned a null value.", fieldName));
+            }
+            return value;
+        };
+    }
+
+    private static ColumnConverter getConverter(String fieldName, int typeTag, Type targetType) throws DataError {
+        if (TypeTags.isIntegerTypeTag(typeTag)) {
+            return (row, index) -> row.getObject(index, Long.class);
+        }
+        switch (typeTag) {
+            case TypeTags.FLOAT_TAG:
+                return (row, index) -> row.getObject(index, Double.class);
+            case TypeTags.DECIMAL_TAG:
+                return (row, index) -> {
+                    BigDecimal value = row.getObject(index, BigDecimal.class);
+                    return value == null ? null : ValueCreator.createDecimalValue(value);
+                };
+            case TypeTags.STRING_TAG:
+                return (row, index) -> {
+                    String value = row.getObject(index, String.class);
+                    return value == null ? null : StringUtils.fromString(value);
+                };
+            case TypeTags.BOOLEAN_TAG:
+                return (row, index) -> row.getObject(index, Boolean.class);
+            case TypeTags.ARRAY_TAG:
+                // The target type is `anydata` or `json` when a BLOB or RAW column is mapped to its default type
+                if (targetType.getTag() != TypeTags.ARRAY_TAG || TypeUtils.getReferredType(
+                        ((ArrayType) targetType).getElementType()).getTag() == TypeTags.BYTE_TAG) {
+                    return (row, index) -> {
+                        byte[] value = row.getObject(index, byte[].class);
+                        return value == null ? null : ValueCreator.createArrayValue(value);
+                    };
+                }
+                throw unsupportedFieldError(fieldName, targetType);
+            default:
+                throw unsupportedFieldError(fieldName, targetType);
+        }
+    }
+
+    private static int getDefaultTypeTag(String fieldName, int sqlType) throws DataError {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return TypeTags.INT_TAG;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return TypeTags.DECIMAL_TAG;
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case OracleTypes.BINARY_FLOAT:
+            case OracleTypes.BINARY_DOUBLE:
+                return TypeTags.FLOAT_TAG;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.ROWID:
+                return TypeTags.STRING_TAG;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return TypeTags.ARRAY_TAG;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return TypeTags.BOOLEAN_TAG;
+            default:
+                throw new UnsupportedTypeError(String.format("SQL type '%d' of the column '%s' is not supported " +
+                        "by asynchronous queries.", sqlType, fieldName));
+        }
+    }
+
+    private static DataError unsupportedFieldError(String fieldName, Type fieldType) {
+        return new UnsupportedTypeError(String.format("Field '%s' of type '%s' is not supported by asynchronous " +
+                "queries. Only int, float, decimal, string, boolean and byte[] fields are supported.", fieldName,
+                fieldType));
+    }
+}
@@ -18,18 +18,33 @@
 package io.ballerina.stdlib.oracledb.utils;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BValue;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 import oracle.jdbc.OracleConnection;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -67,6 +82,107 @@ public class Utils {
         return -1;
     }
 
+    /**
+     * Create the connect descriptor of the given listener addresses.
+     * @param hosts hostnames of the listeners
+     * @param ports port numbers of the listeners
+     * @param protocol protocol used to connect to the listeners
+     * @param database service name of the database
+     * @param descriptorOptions connect descriptor options provided by the user
+     * @return connect descriptor
+     */
+    public static String createConnectDescriptor(List<String> hosts, List<Integer> ports, String protocol,
+                                                 String database, BMap<BString, Object> descriptorOptions) {
+        StringBuilder descriptor = new StringBuilder("(DESCRIPTION=");
+        if (descriptorOptions != null) {
+            long connectTimeout = getTimeoutInMilliSeconds(
+                    descriptorOptions.get(Constants.ConnectDescriptor.CONNECT_TIMEOUT));
+            if (connectTimeout > 0) {
+                descriptor.append("(CONNECT_TIMEOUT=").append(connectTimeout).append("ms)");
+            }
+            long transportConnectTimeout = getTimeoutInMilliSeconds(
+                    descriptorOptions.get(Constants.ConnectDescriptor.TRANSPORT_CONNECT_TIMEOUT));
+            if (transportConnectTimeout > 0) {
+                descriptor.append("(TRANSPORT_CONNECT_TIMEOUT=").append(transportConnectTimeout).append("ms)");
+            }
+            long retryCount = getPositiveIntValue(descriptorOptions.get(Constants.ConnectDescriptor.RETRY_COUNT));
+            if (retryCount > 0) {
+                descriptor.append("(RETRY_COUNT=").append(retryCount).append(")");
+            }
+            long retryDelay = getPositiveIntValue(descriptorOptions.get(Constants.ConnectDescriptor.RETRY_DELAY));
+            if (retryDelay > 0) {
+                descriptor.append("(RETRY_DELAY=").append(retryDelay).append(")");
+            }
+        }
+        descriptor.append("(ADDRESS_LIST=");
+        if (descriptorOptions != null) {
+            descriptor.append("(LOAD_BALANCE=").append(descriptorOptions.getBooleanValue(
+                    Constants.ConnectDescriptor.LOAD_BALANCE) ? "on" : "off").append(")");
+            descriptor.append("(FAILOVER=").append(descriptorOptions.getBooleanValue(
+                    Constants.ConnectDescriptor.FAILOVER) ? "on" : "off").append(")");
+        }
+        for (int i = 0; i < hosts.size(); i++) {
+            descriptor.append("(ADDRESS=");
+            descriptor.append("(PROTOCOL=").append(protocol).append(")");
+            descriptor.append("(PORT=").append(ports.get(i)).append(")");
+            descriptor.append("(HOST=").append(hosts.get(i)).append(")");
+            descriptor.append(")");
+        }
+        descriptor.append(")");
+        descriptor.append("(CONNECT_DATA=(SERVICE_NAME=").append(database).append("))");
+        descriptor.append(")");
+        return descriptor.toString();
+    }
+
+    /**
+     * Return the given int option if it is greater than zero.
+     * @param value value of the option provided by the user
+     * @return value of the option or -1 if the option is not set or not greater than zero
+     */
+    public static long getPositiveIntValue(Object value) {
+        if (value instanceof Long && (Long) value > 0) {
+            return (Long) value;
+        }
+        return -1;
+    }
+
+    /**
+     * Return an error if the given fetch size cannot be passed to the driver, which accepts an int fetch size.
+     * @param fetchSize fetch size provided by the user
+     * @return error or null if the fetch size is valid
+     */
+    public static BError validateFetchSize(long fetchSize) {
+        return validateIntValue("Fetch size", fetchSize);
+    }
+
+    /**
+     * Return an error if the prefetch or statement cache size options of the client cannot be passed to the driver,
+     * which accepts int values for these options.
+     * @param clientOptions options provided by the user
+     * @return error or null if the options are valid
+     */
+    public static BError validateClientOptions(BMap clientOptions) {
+        BError error = validateIntValue(Constants.Options.DEFAULT_ROW_PREFETCH.getValue(),
+                getPositiveIntValue(clientOptions.get(Constants.Options.DEFAULT_ROW_PREFETCH)));
+        if (error == null) {
+            error = validateIntValue(Constants.Options.DEFAULT_LOB_PREFETCH_SIZE.getValue(),
+                    getPositiveIntValue(clientOptions.get(Constants.Options.DEFAULT_LOB_PREFETCH_SIZE)));
+        }
+        if (error == null) {
+            error = validateIntValue(Constants.Options.STATEMENT_CACHE_SIZE.getValue(),
+                    getPositiveIntValue(clientOptions.get(Constants.Options.STATEMENT_CACHE_SIZE)));
+        }
+        return error;
+    }
+
+    private static BError validateIntValue(String name, long value) {
+        if (value > Integer.MAX_VALUE) {
+            return ErrorGenerator.getSQLApplicationError(String.format("%s should not be greater than %d, " +
+                    "but found %d.", name, Integer.MAX_VALUE, value));
+        }
+        return null;
+    }
+
     private static Properties setConnectionProperties(BMap clientOptions) {
         Properties connProperties = new Properties();
         long connectTimeout = getTimeoutInMilliSeconds(clientOptions.get(Constants.Options.CONNECT_TIMEOUT_SECONDS));
@@ -82,6 +198,22 @@ public class Utils {
         if (autocommit != null) {
             connProperties.put(OracleConnection.CONNECTION_PROPERTY_AUTOCOMMIT, String.valueOf(autocommit));
         }
+        long defaultRowPrefetch = getPositiveIntValue(clientOptions.get(Constants.Options.DEFAULT_ROW_PREFETCH));
+        if (defaultRowPrefetch > 0) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_DEFAULT_ROW_PREFETCH,
+                    String.valueOf(defaultRowPrefetch));
+        }
+        long defaultLobPrefetchSize = getPositiveIntValue(
+                clientOptions.get(Constants.Options.DEFAULT_LOB_PREFETCH_SIZE));
+        if (defaultLobPrefetchSize > 0) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_DEFAULT_LOB_PREFETCH_SIZE,
+                    String.valueOf(defaultLobPrefetchSize));
+        }
+        long statementCacheSize = getPositiveIntValue(clientOptions.get(Constants.Options.STATEMENT_CACHE_SIZE));
+        if (statementCacheSize > 0) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_IMPLICIT_STATEMENT_CACHE_SIZE,
+                    String.valueOf(statementCacheSize));
+        }
         BMap secureSocket = clientOptions.getMapValue(Constants.Options.SSL);
         if (secureSocket != null) {
             setSSLConProperties(secureSocket, connProperties);
@@ -180,6 +312,95 @@ public class Utils {
                 value.getType().toString()));
     }
 
+    /**
+     * Return the statement parameter processor of the client.
+     * @param client client object
+     * @return statement parameter processor created for the client or the default instance
+     */
+    public static OracleDBStatementParameterProcessor getStatementParameterProcessor(BObject client) {
+        Object processor = client.getNativeData(Constants.NativeData.STATEMENT_PARAMETER_PROCESSOR);
+        if (processor instanceof OracleDBStatementParameterProcessor) {
+            return (OracleDBStatementParameterProcessor) processor;
+        }
+        return OracleDBStatementParameterProcessor.getInstance();
+    }
+
+    /**
+     * Return the client to which a read-only query is routed. Queries outside transactions are routed to the read
+     * replica of the client if there is one.
+     * @param client client object
+     * @return client object of the read replica or the given client
+     */
+    public static BObject getReadClient(BObject client) {
+        Object readReplica = client.getNativeData(Constants.NativeData.READ_REPLICA);
+        if (readReplica == null || TransactionResourceManager.getInstance().isInTransaction()) {
+            return client;
+        }
+        ((Counter) client.getNativeData(Constants.NativeData.READ_REPLICA_QUERIES)).increment();
+        return (BObject) readReplica;
+    }
+
+    /**
+     * Check whether the client streams the rows of queries through the reactive extensions of the driver.
+     * @param client client object
+     * @return true if the `useAsyncExecution` option is set for the client
+     */
+    public static boolean isAsyncExecutionEnabled(BObject client) {
+        return client.getNativeData(Constants.NativeData.ASYNC_EXECUTION) != null;
+    }
+
+    /**
+     * Check whether the client retrieves the ROWID of the rows inserted by `execute`.
+     * @param client client object
+     * @return false if the `returnGeneratedKeys` option of the client is set to false
+     */
+    public static boolean isGeneratedKeyRetrievalEnabled(BObject client) {
+        return client.getNativeData(Constants.NativeData.GENERATED_KEYS_DISABLED) == null;
+    }
+
+    /**
+     * Return the datasource of the client.
+     * @param client client object
+     * @return `SQLDatasource` of the client or an error if the client is not initialized or already closed
+     */
+    public static Object getSQLDatasource(BObject client) {
+        Object dbClient = client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return ErrorGenerator.getSQLApplicationError("Client is not properly initialized!");
+        }
+        if (!((Boolean) client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS))) {
+            return ErrorGenerator.getSQLApplicationError(
+                    "SQL Client is already closed, hence further operations are not allowed");
+        }
+        return dbClient;
+    }
+
+    /**
+     * Return a connection of the client, which is the connection of the current transaction if there is one.
+     * @param client client object
+     * @param sqlDatasource datasource of the client
+     * @param isWithinTrxBlock whether the operation is within a transaction
+     * @param trxResourceManager transaction resource manager
+     * @return connection
+     * @throws SQLException if a connection cannot be obtained
+     */
+    public static Connection getConnection(BObject client, SQLDatasource sqlDatasource, boolean isWithinTrxBlock,
+                                           TransactionResourceManager trxResourceManager) throws SQLException {
+        return SQLDatasource.getConnection(isWithinTrxBlock, trxResourceManager, client, sqlDatasource);
+    }
+
+    /**
+     * Close the given resources. The connection is not closed if it belongs to a transaction.
+     * @param isWithinTrxBlock whether the operation is within a transaction
+     * @param resultSet result set to be closed
+     * @param statement statement to be closed
+     * @param connection connection to be closed
+     */
+    public static void closeResources(boolean isWithinTrxBlock, ResultSet resultSet, Statement statement,
+                                      Connection connection) {
+        io.ballerina.stdlib.sql.utils.Utils.closeResources(isWithinTrxBlock, resultSet, statement, connection);
+    }
+
     /**
      * Return an OracleConnection instance from Hikari connection.
      * @param connection Hikari connection
@@ -192,4 +413,48 @@ public class Utils {
         }
         throw new SQLException("Cannot cast connection to Oracle connection");
     }
+
+    /**
+     * Return the elements of a Ballerina `int[]` as a `long[]` of the same length.
+     * @param value `int[]` value
+     * @return elements of the array
+     */
+    public static long[] toLongArray(BArray value) {
+        // The backing array of a Ballerina array may have spare capacity, in which case it is trimmed
+        long[] values = value.getIntArray();
+        return values.length == value.size() ? values : Arrays.copyOf(values, value.size());
+    }
+
+    /**
+     * Return the elements of a Ballerina `float[]` as a `double[]` of the same length.
+     * @param value `float[]` value
+     * @return elements of the array
+     */
+    public static double[] toDoubleArray(BArray value) {
+        // The backing array of a Ballerina array may have spare capacity, in which case it is trimmed
+        double[] values = value.getFloatArray();
+        return values.length == value.size() ? values : Arrays.copyOf(values, value.size());
+    }
+
+    /**
+     * Return the single member of the given union other than nil, which is the type of an optional value such as
+     * `int?`. The members are resolved from type references, and a union with several members other than nil, such
+     * as `int|string?`, has no single member type.
+     * @param unionType union type
+     * @return member type other than nil or null if there is no single such member
+     */
+    public static Type getNonNullMemberType(UnionType unionType) {
+        Type nonNullType = null;
+        for (Type memberType : unionType.getMemberTypes()) {
+            Type referredType = TypeUtils.getReferredType(memberType);
+            if (referredType.getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (nonNullType != null) {
+                return null;
+            }
+            nonNullType = referredType;
+        }
+        return nonNullType;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import oracle.jdbc.OracleType;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This class binds and reads Oracle VECTOR values as primitive `double[]` arrays, which map directly to the values
+ * of a Ballerina `float[]` without boxing each dimension.
+ *
+ * @since 1.17.0
+ */
+public class VectorUtils {
+
+    private VectorUtils() {}
+
+    /**
+     * Bind a Ballerina `float[]` as a VECTOR of FLOAT64 dimensions. The database converts it to the format of the
+     * column.
+     * @param statement prepared statement
+     * @param index index of the parameter
+     * @param vector `float[]` value or null
+     */
+    public static void setVector(PreparedStatement statement, int index, BArray vector) throws SQLException {
+        statement.setObject(index, vector == null ? null : Utils.toDoubleArray(vector), OracleType.VECTOR_FLOAT64);
+    }
+
+    /**
+     * Read a VECTOR column as a Ballerina `float[]`.
+     * @param resultSet result set
+     * @param columnIndex index of the column
+     * @return `float[]` value or null
+     */
+    public static BArray getVector(ResultSet resultSet, int columnIndex) throws SQLException {
+        double[] vector = resultSet.getObject(columnIndex, double[].class);
+        return vector == null ? null : ValueCreator.createArrayValue(vector);
+    }
+}
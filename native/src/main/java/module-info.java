@@ -20,6 +20,7 @@ module io.ballerina.stdlib.oracledb {
     requires io.ballerina.runtime;
     requires io.ballerina.stdlib.sql;
     requires io.ballerina.stdlib.time;
+    requires java.management;
     requires java.sql;
     requires com.oracle.database.jdbc;
     exports io.ballerina.stdlib.oracledb;